@@ -0,0 +1,203 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+
+/**
+ * Puzzle input read straight from a memory-mapped file (or from the bytes of an embedded input) and handed out one
+ * line at a time, without creating a String per line or per field.
+ */
+class AocInput implements AutoCloseable {
+    private static final long WINDOW = 1L << 30;
+
+    private final FileChannel channel;
+    private final ByteBuffer bytes;
+    private final long size;
+
+    private AocInput(FileChannel channel, ByteBuffer bytes, long size) {
+        this.channel = channel;
+        this.bytes = bytes;
+        this.size = size;
+    }
+
+    static AocInput open(Path path) {
+        try {
+            var channel = FileChannel.open(path, StandardOpenOption.READ);
+            return new AocInput(channel, null, channel.size());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static AocInput of(String text) {
+        var bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.ISO_8859_1));
+        return new AocInput(null, bytes, bytes.limit());
+    }
+
+    long size() {
+        return size;
+    }
+
+    /**
+     * Calls the consumer once per line. The same {@link Line} instance is reused for every call, so it must not be
+     * kept after the consumer returns.
+     */
+    void lines(Consumer<Line> consumer) {
+        var line = new Line();
+
+        if (bytes != null) {
+            scan(bytes, 0, true, line, consumer);
+            return;
+        }
+
+        long position = 0;
+
+        while (position < size) {
+            long length = Math.min(WINDOW, size - position);
+            boolean last = position + length == size;
+            int consumed = scan(map(position, length), position, last, line, consumer);
+
+            if (consumed == 0) {
+                throw new IllegalArgumentException("Line at offset " + position + " is longer than " + WINDOW + " bytes");
+            }
+
+            position += consumed;
+        }
+    }
+
+    private static int scan(ByteBuffer buffer, long offset, boolean last, Line line, Consumer<Line> consumer) {
+        int start = 0;
+        int limit = buffer.limit();
+
+        for (int i = 0; i < limit; i++) {
+            if (buffer.get(i) == '\n') {
+                consumer.accept(line.reset(buffer, offset + start, start, i));
+                start = i + 1;
+            }
+        }
+
+        if (last && start < limit) {
+            consumer.accept(line.reset(buffer, offset + start, start, limit));
+            start = limit;
+        }
+
+        return start;
+    }
+
+    private ByteBuffer map(long position, long length) {
+        try {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            if (channel != null) {
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * A view of one line of input with a cursor for reading its fields in order.
+     */
+    static final class Line {
+        private ByteBuffer buffer;
+        private long offset;
+        private int start;
+        private int end;
+        private int cursor;
+
+        private Line reset(ByteBuffer buffer, long offset, int start, int end) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.start = start;
+            this.end = end > start && buffer.get(end - 1) == '\r' ? end - 1 : end;
+            this.cursor = start;
+            return this;
+        }
+
+        long offset() {
+            return offset;
+        }
+
+        int length() {
+            return end - start;
+        }
+
+        boolean isEmpty() {
+            return end == start;
+        }
+
+        char charAt(int index) {
+            return (char) (buffer.get(start + index) & 0xff);
+        }
+
+        /**
+         * Copies the bytes of the line into the array from the given index on and returns how many there were.
+         */
+        int copyTo(byte[] destination, int index) {
+            buffer.get(start, destination, index, length());
+            return length();
+        }
+
+        boolean hasNextNumber() {
+            while (cursor < end && !isNumberStart(cursor)) {
+                cursor++;
+            }
+
+            return cursor < end;
+        }
+
+        int nextInt() {
+            return Math.toIntExact(nextLong());
+        }
+
+        /**
+         * Skips to the next (optionally negative) decimal number on the line and parses it.
+         */
+        long nextLong() {
+            if (!hasNextNumber()) {
+                throw new IllegalStateException("No more numbers on line at offset " + offset);
+            }
+
+            boolean negative = buffer.get(cursor) == '-';
+
+            if (negative) {
+                cursor++;
+            }
+
+            long value = 0;
+
+            while (cursor < end && isDigit(buffer.get(cursor))) {
+                value = Math.addExact(Math.multiplyExact(value, 10), buffer.get(cursor++) - '0');
+            }
+
+            return negative ? -value : value;
+        }
+
+        private boolean isNumberStart(int i) {
+            return isDigit(buffer.get(i)) || (buffer.get(i) == '-' && i + 1 < end && isDigit(buffer.get(i + 1)));
+        }
+
+        private static boolean isDigit(byte b) {
+            return b >= '0' && b <= '9';
+        }
+
+        @Override
+        public String toString() {
+            var chars = new byte[length()];
+            buffer.get(start, chars);
+            return new String(chars, StandardCharsets.ISO_8859_1);
+        }
+    }
+}
@@ -1,11 +1,18 @@
-import java.util.Comparator;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.PriorityQueue;
-import java.util.Set;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntPredicate;
+import java.util.function.IntToLongFunction;
 import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
 import java.util.stream.LongStream;
 
 class AocUtils {
@@ -14,8 +21,16 @@ class AocUtils {
         return remainder < 0 ? remainder + b : remainder;
     }
 
+    /**
+     * The least common multiple of all numbers in the stream, which may be parallel. Throws ArithmeticException
+     * rather than overflowing; {@link #bigLcm(LongStream)} gives the exact value.
+     */
     static long lcm(LongStream stream) {
-        return stream.reduce(1, AocUtils::lcm);
+        return bigLcm(stream).longValueExact();
+    }
+
+    static BigInteger bigLcm(LongStream stream) {
+        return stream.collect(Lcm::new, Lcm::add, Lcm::add).value();
     }
 
     static long lcm(long a, long b) {
@@ -23,63 +38,383 @@ class AocUtils {
             return 0;
         }
 
-        return Math.abs(a) * (Math.abs(b) / gcd(a, b));
+        return Math.multiplyExact(Math.absExact(a) / gcd(a, b), Math.absExact(b));
+    }
+
+    static BigInteger lcm(BigInteger a, BigInteger b) {
+        if (a.signum() == 0 || b.signum() == 0) {
+            return BigInteger.ZERO;
+        }
+
+        return a.abs().divide(a.gcd(b)).multiply(b.abs());
+    }
+
+    // stays on longs until the running lcm overflows, then carries on with BigInteger
+    private static final class Lcm {
+        private long small = 1;
+        private BigInteger big;
+
+        void add(long n) {
+            if (big == null) {
+                try {
+                    small = lcm(small, n);
+                    return;
+                } catch (ArithmeticException e) {
+                    big = BigInteger.valueOf(small);
+                }
+            }
+
+            big = lcm(big, BigInteger.valueOf(n));
+        }
+
+        void add(Lcm that) {
+            if (that.big == null) {
+                add(that.small);
+            } else {
+                big = lcm(value(), that.big);
+            }
+        }
+
+        BigInteger value() {
+            return big != null ? big : BigInteger.valueOf(small);
+        }
     }
 
     static long gcd(LongStream stream) {
-        return stream.reduce(1, AocUtils::gcd);
+        return stream.reduce(0, AocUtils::gcd);
     }
 
+    /**
+     * Binary (Stein's) gcd: strips common factors of two with shifts instead of dividing.
+     */
     static long gcd(long a, long b) {
+        a = Math.absExact(a);
+        b = Math.absExact(b);
+
         if (a == 0 || b == 0) {
             return a + b;
         }
 
-        var min = Math.min(Math.abs(a), Math.abs(b));
-        var max = Math.max(Math.abs(a), Math.abs(b));
-        return gcd(max % min, min);
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+
+        while (b != 0) {
+            b >>= Long.numberOfTrailingZeros(b);
+
+            if (a > b) {
+                long t = a;
+                a = b;
+                b = t;
+            }
+
+            b -= a;
+        }
+
+        return a << shift;
     }
 
-    static <V> Set<V> union(Set<? extends V> a, Set<? extends V> b) {
-        var u = new HashSet<V>();
-        u.addAll(a);
-        u.addAll(b);
-        return u;
+    /**
+     * x ≡ remainder (mod modulus), with 0 <= remainder < modulus.
+     */
+    record Congruence(long remainder, long modulus) {
+        Congruence {
+            if (modulus <= 0) {
+                throw new IllegalArgumentException("Modulus must be positive: " + modulus);
+            }
+
+            remainder = Math.floorMod(remainder, modulus);
+        }
     }
 
-    public static <T> Set<T> diff(Set<T> a, Set<T> b) {
-        Set<T> d = new HashSet<>(a);
-        d.removeAll(b);
-        return d;
+    /**
+     * Chinese remainder theorem for moduli that need not be coprime: the single congruence equivalent to all of
+     * the given ones, or empty if they contradict each other. Throws ArithmeticException if the combined modulus
+     * does not fit in a long.
+     */
+    static Optional<Congruence> crt(List<Congruence> congruences) {
+        var result = new Congruence(0, 1);
+
+        for (var c : congruences) {
+            long g = gcd(result.modulus(), c.modulus());
+            long difference = c.remainder() - result.remainder();
+
+            if (difference % g != 0) {
+                return Optional.empty();
+            }
+
+            // result.remainder() + result.modulus() * k ≡ c.remainder() (mod c.modulus())
+            long modulus = c.modulus() / g;
+            long k = mulMod(Math.floorMod(difference / g, modulus), modInverse(result.modulus() / g % modulus, modulus),
+                    modulus);
+            long combined = Math.multiplyExact(result.modulus(), modulus);
+            long step = mulMod(result.modulus(), k, combined);
+            // result.remainder() + step without overflowing: both are below combined
+            result = new Congruence(step - (combined - result.remainder()), combined);
+        }
+
+        return Optional.of(result);
+    }
+
+    /**
+     * (a * b) mod m for 0 <= a, b < m, without overflowing.
+     */
+    static long mulMod(long a, long b, long m) {
+        long low = a * b;
+
+        if (Math.multiplyHigh(a, b) == 0 && low >= 0) {
+            return low % m;
+        }
+
+        return BigInteger.valueOf(a).multiply(BigInteger.valueOf(b)).mod(BigInteger.valueOf(m)).longValue();
+    }
+
+    /**
+     * The inverse of a modulo m, for a coprime to m.
+     */
+    static long modInverse(long a, long m) {
+        long r0 = m, r1 = Math.floorMod(a, m);
+        long s0 = 0, s1 = 1;
+
+        while (r1 != 0) {
+            long q = r0 / r1;
+            long r = r0 - q * r1;
+            r0 = r1;
+            r1 = r;
+            long t = s0 - q * s1;
+            s0 = s1;
+            s1 = t;
+        }
+
+        if (r0 != 1) {
+            throw new ArithmeticException(a + " has no inverse modulo " + m);
+        }
+
+        return Math.floorMod(s0, m);
     }
 
+    /**
+     * The largest r with r * r <= n, for n >= 0. Math.sqrt is only a first guess: above 2^52 a double no longer
+     * holds n exactly.
+     */
+    static long isqrt(long n) {
+        if (n < 0) {
+            throw new ArithmeticException("Square root of negative number: " + n);
+        }
+
+        long r = (long) Math.sqrt(n);
+
+        // compared by division, as (r + 1) * (r + 1) overflows for n near Long.MAX_VALUE
+        while (r > 0 && r > n / r) {
+            r--;
+        }
+
+        while (r + 1 <= n / (r + 1)) {
+            r++;
+        }
+
+        return r;
+    }
+
+    /**
+     * Collects weighted, directed edges between arbitrary vertices. Queries run on a {@link CompactGraph} that is
+     * built from the collected edges on first use and rebuilt only after further edges are added.
+     */
     static class Graph<T> {
-        private final Map<T, Set<NodeDistance<T>>> neighbors;
+        private final Map<T, Integer> ids;
+        private final List<T> vertices;
+        private int[] sources;
+        private int[] targets;
+        private long[] weights;
+        private int edgeCount;
+        private CompactGraph<T> compact;
 
         public Graph() {
-            neighbors = new HashMap<>();
+            ids = new HashMap<>();
+            vertices = new ArrayList<>();
+            sources = new int[16];
+            targets = new int[16];
+            weights = new long[16];
         }
 
         void addEdge(T source, T destination, long weight) {
-            neighbors.computeIfAbsent(source, k -> new HashSet<>()).add(new NodeDistance<>(destination, weight));
-            neighbors.computeIfAbsent(destination, k -> new HashSet<>());
+            if (edgeCount == sources.length) {
+                sources = Arrays.copyOf(sources, 2 * edgeCount);
+                targets = Arrays.copyOf(targets, 2 * edgeCount);
+                weights = Arrays.copyOf(weights, 2 * edgeCount);
+            }
+
+            sources[edgeCount] = id(source);
+            targets[edgeCount] = id(destination);
+            weights[edgeCount] = weight;
+            edgeCount++;
+            compact = null;
+        }
+
+        private int id(T vertex) {
+            var id = ids.putIfAbsent(vertex, vertices.size());
+
+            if (id == null) {
+                vertices.add(vertex);
+                return vertices.size() - 1;
+            }
+
+            return id;
+        }
+
+        CompactGraph<T> compact() {
+            if (compact == null) {
+                compact = new CompactGraph<>(ids, vertices, sources, targets, weights, edgeCount);
+            }
+
+            return compact;
         }
 
         long longestPath(T start, T end) {
-            return longestPath(start, end, new HashSet<>());
+            var graph = compact();
+            return graph.longestPath(graph.id(start), graph.id(end));
+        }
+
+        long dijkstra(T start, T end) {
+            return dijkstra(start, t -> Objects.equals(t, end));
+        }
+
+        long dijkstra(T start, Predicate<T> isEnd) {
+            return dijkstraSearch(start, isEnd).distance();
+        }
+
+        CompactGraph.Search dijkstraSearch(T start, Predicate<T> isEnd) {
+            var graph = compact();
+            return graph.dijkstraSearch(graph.id(start), id -> isEnd.test(graph.vertex(id)));
+        }
+
+        CompactGraph.Search aStar(T start, Predicate<T> isEnd, ToLongFunction<T> heuristic) {
+            var graph = compact();
+            return graph.aStar(graph.id(start), id -> isEnd.test(graph.vertex(id)),
+                                id -> heuristic.applyAsLong(graph.vertex(id)));
+        }
+    }
+
+    /**
+     * An immutable graph in compressed sparse row form: vertices are numbered 0 until size(), and the edges leaving
+     * vertex v are {@code targets[offsets[v]]} until {@code targets[offsets[v + 1]]}, with their weights alongside.
+     * The vertex numbering is shared with the graph it was built from, which only ever appends to it.
+     */
+    static final class CompactGraph<T> {
+        static final long DIAL_MAX_WEIGHT = 1 << 12;
+        static final boolean PARALLEL = Boolean.parseBoolean(System.getProperty("graph.parallel", "true"));
+
+        private final Map<T, Integer> ids;
+        private final List<T> vertices;
+        private final int size;
+        private final int[] offsets;
+        private final int[] targets;
+        private final long[] weights;
+        private final long minWeight;
+        private final long maxWeight;
+
+        private CompactGraph(Map<T, Integer> ids, List<T> vertices, int[] sources, int[] targets, long[] weights,
+                             int edgeCount) {
+
+            this.ids = ids;
+            this.vertices = vertices;
+            this.size = vertices.size();
+            this.offsets = new int[size + 1];
+            this.targets = new int[edgeCount];
+            this.weights = new long[edgeCount];
+
+            for (int e = 0; e < edgeCount; e++) {
+                offsets[sources[e] + 1]++;
+            }
+
+            for (int v = 0; v < size; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+
+            var next = Arrays.copyOf(offsets, size);
+
+            for (int e = 0; e < edgeCount; e++) {
+                int slot = next[sources[e]]++;
+                this.targets[slot] = targets[e];
+                this.weights[slot] = weights[e];
+            }
+
+            removeDuplicateEdges();
+            var edgeWeights = Arrays.stream(this.weights, 0, offsets[size]).summaryStatistics();
+            this.minWeight = edgeWeights.getMin();
+            this.maxWeight = edgeWeights.getMax();
         }
 
-        private long longestPath(T pos, T end, Set<T> visited) {
-            if (pos.equals(end)) {
+        // addEdge may see the same edge more than once, e.g. when a path is found from both of its ends
+        private void removeDuplicateEdges() {
+            int edgeCount = 0;
+
+            for (int v = 0; v < size; v++) {
+                int from = offsets[v];
+                offsets[v] = edgeCount;
+
+                for (int e = from; e < offsets[v + 1]; e++) {
+                    if (!contains(offsets[v], edgeCount, targets[e], weights[e])) {
+                        targets[edgeCount] = targets[e];
+                        weights[edgeCount] = weights[e];
+                        edgeCount++;
+                    }
+                }
+            }
+
+            offsets[size] = edgeCount;
+        }
+
+        private boolean contains(int from, int to, int target, long weight) {
+            for (int e = from; e < to; e++) {
+                if (targets[e] == target && weights[e] == weight) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int id(T vertex) {
+            var id = ids.get(vertex);
+
+            if (id == null || id >= size) {
+                throw new IllegalArgumentException("Not a vertex of this graph: " + vertex);
+            }
+
+            return id;
+        }
+
+        T vertex(int id) {
+            return vertices.get(id);
+        }
+
+        /**
+         * Returns the length of the longest simple path from start to end, or Long.MIN_VALUE if there is none.
+         */
+        long longestPath(int start, int end) {
+            if (size <= LongestPath.MAX_VERTICES) {
+                var search = new LongestPath(this, end);
+                return PARALLEL ? search.parallel(start) : search.sequential(start);
+            }
+
+            return longestPath(start, end, new boolean[size()]);
+        }
+
+        private long longestPath(int pos, int end, boolean[] visited) {
+            if (pos == end) {
                 return 0;
             }
 
-            visited.add(pos);
+            visited[pos] = true;
             long max = Long.MIN_VALUE;
 
-            for (var next : neighbors.get(pos)) {
-                if (!visited.contains(next.node())) {
-                    long distance = next.distance() + longestPath(next.node(), end, visited);
+            for (int e = offsets[pos]; e < offsets[pos + 1]; e++) {
+                if (!visited[targets[e]]) {
+                    long distance = weights[e] + longestPath(targets[e], end, visited);
 
                     if (distance > max) {
                         max = distance;
@@ -87,48 +422,406 @@ class AocUtils {
                 }
             }
 
-            visited.remove(pos);
+            visited[pos] = false;
             return max;
         }
 
-        long dijkstra(T start, T end) {
-            return dijkstra(start, t -> Objects.equals(t, end));
+        boolean hasSmallWeights() {
+            return minWeight >= 0 && maxWeight <= DIAL_MAX_WEIGHT;
         }
 
-        long dijkstra(T start, Predicate<T> isEnd) {
-            var distances = new HashMap<T, Long>();
-            var queue = new PriorityQueue<NodeDistance<T>>(neighbors.keySet().size(),
-                    Comparator.comparingLong(NodeDistance::distance));
-            var visited = new HashSet<T>();
+        /**
+         * Returns the distance to the nearest vertex satisfying isEnd, or Long.MAX_VALUE if none can be reached.
+         * Vertices are settled in order of distance, so the search stops at the first one that satisfies isEnd.
+         */
+        long dijkstra(int start, IntPredicate isEnd) {
+            return dijkstraSearch(start, isEnd).distance();
+        }
+
+        Search dijkstraSearch(int start, IntPredicate isEnd) {
+            return hasSmallWeights() ? dial(start, isEnd) : heapDijkstra(start, isEnd);
+        }
+
+        Search heapDijkstra(int start, IntPredicate isEnd) {
+            return aStar(start, isEnd, id -> 0);
+        }
+
+        /**
+         * Dijkstra ordered by distance plus the heuristic's estimate of the distance left to an end vertex. The
+         * heuristic must never overestimate that distance; if it is not also consistent (dropping by at most the
+         * weight of each edge), vertices may be expanded more than once.
+         */
+        Search aStar(int start, IntPredicate isEnd, IntToLongFunction heuristic) {
+            var distances = new long[size];
+            var queue = new IndexedHeap(size);
+            long expanded = 0;
 
-            distances.put(start, 0L);
-            queue.add(new NodeDistance<>(start, 0));
+            Arrays.fill(distances, Long.MAX_VALUE);
+            distances[start] = 0;
+            queue.offer(start, heuristic.applyAsLong(start));
 
             while (!queue.isEmpty()) {
-                var u = queue.poll();
+                int u = queue.poll();
+                expanded++;
+                Instrumentation.Counter.DIJKSTRA_POPS.increment();
 
-                if (visited.add(u.node())) {
-                    for (var v : neighbors.get(u.node())) {
-                        if (!visited.contains(v.node())) {
-                            var newDistance = distances.get(u.node()) + v.distance();
+                if (isEnd.test(u)) {
+                    return new Search(distances[u], expanded);
+                }
+
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    long newDistance = distances[u] + weights[e];
+
+                    if (newDistance < distances[v]) {
+                        distances[v] = newDistance;
+                        queue.offer(v, newDistance + heuristic.applyAsLong(v));
+                    }
+                }
+            }
+
+            return new Search(Long.MAX_VALUE, expanded);
+        }
+
+        /**
+         * Dial's algorithm: with integer weights of at most maxWeight, every tentative distance lies within
+         * maxWeight of the one being settled, so maxWeight + 1 buckets used round-robin replace the heap.
+         */
+        Search dial(int start, IntPredicate isEnd) {
+            if (!hasSmallWeights()) {
+                throw new IllegalStateException("Edge weights must be between 0 and " + DIAL_MAX_WEIGHT);
+            }
+
+            int width = (int) maxWeight + 1;
+            var buckets = new int[width][];
+            var bucketSizes = new int[width];
+            var distances = new long[size];
+            var settled = new boolean[size];
+
+            for (int b = 0; b < width; b++) {
+                buckets[b] = new int[4];
+            }
+
+            Arrays.fill(distances, Long.MAX_VALUE);
+            distances[start] = 0;
+            buckets[0][bucketSizes[0]++] = start;
+            long queued = 1;
+            long expanded = 0;
+
+            for (long distance = 0; queued > 0; distance++) {
+                int b = (int) (distance % width);
+
+                while (bucketSizes[b] > 0) {
+                    int u = buckets[b][--bucketSizes[b]];
+                    queued--;
 
-                            if (newDistance < distances.getOrDefault(v.node(), Long.MAX_VALUE)) {
-                                distances.put(v.node(), newDistance);
-                                queue.add(new NodeDistance<>(v.node, newDistance));
+                    // a vertex is queued again each time its distance improves; only its latest entry counts
+                    if (settled[u] || distances[u] != distance) {
+                        continue;
+                    }
+
+                    settled[u] = true;
+                    expanded++;
+                    Instrumentation.Counter.DIJKSTRA_POPS.increment();
+
+                    if (isEnd.test(u)) {
+                        return new Search(distance, expanded);
+                    }
+
+                    for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                        int v = targets[e];
+                        long newDistance = distance + weights[e];
+
+                        if (!settled[v] && newDistance < distances[v]) {
+                            distances[v] = newDistance;
+                            int nb = (int) (newDistance % width);
+
+                            if (bucketSizes[nb] == buckets[nb].length) {
+                                buckets[nb] = Arrays.copyOf(buckets[nb], 2 * bucketSizes[nb]);
                             }
+
+                            buckets[nb][bucketSizes[nb]++] = v;
+                            queued++;
                         }
                     }
                 }
             }
 
-            return distances.keySet()
-                            .stream()
-                            .filter(isEnd)
-                            .mapToLong(distances::get)
-                            .min()
-                            .orElse(Long.MAX_VALUE);
+            return new Search(Long.MAX_VALUE, expanded);
         }
 
-        private record NodeDistance<T>(T node, long distance) {}
+        /**
+         * The outcome of a shortest path search: the distance found and how many vertices were taken off the queue
+         * to find it.
+         */
+        record Search(long distance, long expanded) {}
+    }
+
+    /**
+     * Exhaustive longest simple path search over a graph of at most 128 vertices, with the visited set held in two
+     * longs. A branch is cut off once its length plus the best edge into every unvisited vertex cannot beat the
+     * longest path found so far.
+     */
+    static final class LongestPath {
+        static final int MAX_VERTICES = 128;
+
+        // branches closer to the start than this are searched as separate fork/join tasks
+        private static final int FORK_DEPTH = 8;
+
+        private final int[] offsets;
+        private final int[] targets;
+        private final long[] weights;
+        private final long[] bestIn;
+        private final long bestInTotal;
+        private final int end;
+        private final int lastTurn;
+        private final AtomicLong best = new AtomicLong(Long.MIN_VALUE);
+
+        LongestPath(CompactGraph<?> graph, int end) {
+            if (graph.size() > MAX_VERTICES) {
+                throw new IllegalArgumentException("At most " + MAX_VERTICES + " vertices, got " + graph.size());
+            }
+
+            this.offsets = graph.offsets;
+            this.targets = graph.targets;
+            this.weights = graph.weights;
+            this.bestIn = new long[graph.size()];
+            this.end = end;
+
+            for (int e = 0; e < offsets[graph.size()]; e++) {
+                bestIn[targets[e]] = Math.max(bestIn[targets[e]], weights[e]);
+            }
+
+            this.bestInTotal = Arrays.stream(bestIn).sum();
+            this.lastTurn = onlyPredecessor(end);
+        }
+
+        // when end can only be entered from one vertex, a path that reaches that vertex has to go to end next
+        private int onlyPredecessor(int vertex) {
+            int predecessor = -1;
+
+            for (int v = 0; v < bestIn.length; v++) {
+                for (int e = offsets[v]; e < offsets[v + 1]; e++) {
+                    if (targets[e] == vertex && v != predecessor) {
+                        if (predecessor >= 0) {
+                            return -1;
+                        }
+
+                        predecessor = v;
+                    }
+                }
+            }
+
+            return predecessor;
+        }
+
+        long sequential(int start) {
+            return search(start, bit(start, 0), bit(start - 64, 0), 0, bestInTotal - bestIn[start], Long.MIN_VALUE);
+        }
+
+        long parallel(int start) {
+            ForkJoinPool.commonPool().invoke(new Branch(start, bit(start, 0), bit(start - 64, 0), 0,
+                    bestInTotal - bestIn[start], 0));
+            return best.get();
+        }
+
+        private long search(int pos, long low, long high, long length, long remaining, long best) {
+            if (pos == end) {
+                return Math.max(best, length);
+            }
+
+            if (length + remaining <= best) {
+                return best;
+            }
+
+            for (int e = offsets[pos]; e < offsets[pos + 1]; e++) {
+                int next = targets[e];
+
+                if (pos == lastTurn && next != end) {
+                    continue;
+                }
+
+                long nextLow = bit(next, low);
+                long nextHigh = bit(next - 64, high);
+
+                if (nextLow != low || nextHigh != high) {
+                    best = search(next, nextLow, nextHigh, length + weights[e], remaining - bestIn[next], best);
+                }
+            }
+
+            return best;
+        }
+
+        // sets bit i of bits, or leaves bits as they are when i is outside 0..63
+        private static long bit(int i, long bits) {
+            return i >= 0 && i < 64 ? bits | 1L << i : bits;
+        }
+
+        private final class Branch extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+
+            private final int pos;
+            private final long low;
+            private final long high;
+            private final long length;
+            private final long remaining;
+            private final int depth;
+
+            Branch(int pos, long low, long high, long length, long remaining, int depth) {
+                this.pos = pos;
+                this.low = low;
+                this.high = high;
+                this.length = length;
+                this.remaining = remaining;
+                this.depth = depth;
+            }
+
+            @Override
+            protected void compute() {
+                if (pos == end || depth == FORK_DEPTH) {
+                    long found = search(pos, low, high, length, remaining, best.get());
+                    best.accumulateAndGet(found, Math::max);
+                    return;
+                }
+
+                if (length + remaining <= best.get()) {
+                    return;
+                }
+
+                var branches = new ArrayList<Branch>();
+
+                for (int e = offsets[pos]; e < offsets[pos + 1]; e++) {
+                    int next = targets[e];
+
+                    if (pos == lastTurn && next != end) {
+                        continue;
+                    }
+
+                    long nextLow = bit(next, low);
+                    long nextHigh = bit(next - 64, high);
+
+                    if (nextLow != low || nextHigh != high) {
+                        branches.add(new Branch(next, nextLow, nextHigh, length + weights[e], remaining - bestIn[next],
+                                depth + 1));
+                    }
+                }
+
+                invokeAll(branches);
+            }
+        }
+    }
+
+    /**
+     * A 4-ary min-heap of int ids 0 until capacity, each present at most once, with decrease-key.
+     */
+    static final class IndexedHeap {
+        private static final int ARITY = 4;
+
+        private final int[] heap;
+        private final int[] positions;
+        private final long[] keys;
+        private int size;
+
+        IndexedHeap(int capacity) {
+            heap = new int[capacity];
+            positions = new int[capacity];
+            keys = new long[capacity];
+            Arrays.fill(positions, -1);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean contains(int id) {
+            return positions[id] >= 0;
+        }
+
+        /**
+         * Inserts the id with the given key, or lowers its key if it is already queued with a higher one.
+         */
+        void offer(int id, long key) {
+            if (positions[id] < 0) {
+                heap[size] = id;
+                positions[id] = size;
+                keys[id] = key;
+                siftUp(size++);
+            } else if (key < keys[id]) {
+                keys[id] = key;
+                siftUp(positions[id]);
+            }
+        }
+
+        long key(int id) {
+            return keys[id];
+        }
+
+        int poll() {
+            int min = heap[0];
+            positions[min] = -1;
+            size--;
+
+            if (size > 0) {
+                heap[0] = heap[size];
+                positions[heap[0]] = 0;
+                siftDown(0);
+            }
+
+            return min;
+        }
+
+        private void siftUp(int i) {
+            int id = heap[i];
+
+            while (i > 0) {
+                int parent = (i - 1) / ARITY;
+
+                if (keys[heap[parent]] <= keys[id]) {
+                    break;
+                }
+
+                heap[i] = heap[parent];
+                positions[heap[i]] = i;
+                i = parent;
+            }
+
+            heap[i] = id;
+            positions[id] = i;
+        }
+
+        private void siftDown(int i) {
+            int id = heap[i];
+
+            while (true) {
+                int first = ARITY * i + 1;
+
+                if (first >= size) {
+                    break;
+                }
+
+                int min = first;
+
+                for (int child = first + 1; child < Math.min(first + ARITY, size); child++) {
+                    if (keys[heap[child]] < keys[heap[min]]) {
+                        min = child;
+                    }
+                }
+
+                if (keys[heap[min]] >= keys[id]) {
+                    break;
+                }
+
+                heap[i] = heap[min];
+                positions[heap[i]] = i;
+                i = min;
+            }
+
+            heap[i] = id;
+            positions[id] = i;
+        }
     }
 }
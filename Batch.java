@@ -0,0 +1,140 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs one day over every file in a directory: the files are read one after the other, but only while fewer than
+ * -Dbatch.inFlight of them are waiting or being solved, and solved on a work-stealing pool of -Dbatch.threads.
+ * Writes the answers of every file to the output, tab-separated, in the order they finish, and prints throughput and
+ * latency percentiles. A backslash, tab or line break within a field is written as \\, \t, \n or \r.
+ */
+public class Batch {
+    static final int THREADS = Integer.getInteger("batch.threads", Runtime.getRuntime().availableProcessors());
+    static final int IN_FLIGHT = Integer.getInteger("batch.inFlight", 4 * THREADS);
+
+    public static void main(String... args) throws IOException, InterruptedException {
+        if (args.length != 3) {
+            System.err.println("Usage: java -cp out Batch <day> <input directory> <output file>");
+            System.exit(2);
+        }
+
+        var solver = solver(args[0]);
+        List<Path> files;
+
+        try (var list = Files.list(Path.of(args[1]))) {
+            files = list.filter(Files::isRegularFile).sorted().toList();
+        }
+
+        var latencies = new long[files.size()];
+        var failures = new AtomicInteger();
+        var writeFailure = new AtomicReference<IOException>();
+        var inFlight = new Semaphore(IN_FLIGHT);
+        var pool = new ForkJoinPool(THREADS);
+        long bytes = 0;
+        long start = System.nanoTime();
+
+        try (var out = Files.newBufferedWriter(Path.of(args[2]))) {
+            try {
+                for (int i = 0; i < files.size(); i++) {
+                    inFlight.acquire();
+                    var file = files.get(i);
+                    var content = Files.readAllBytes(file);
+                    var input = new String(content, StandardCharsets.UTF_8).stripTrailing();
+                    bytes += content.length;
+                    int n = i;
+
+                    pool.execute(() -> {
+                        try {
+                            long solveStart = System.nanoTime();
+                            var answers = solve(solver, input);
+                            latencies[n] = System.nanoTime() - solveStart;
+
+                            if (answers.startsWith("failed")) {
+                                failures.incrementAndGet();
+                            }
+
+                            write(out, escape(file.getFileName().toString()) + "\t" + answers + "\t"
+                                    + latencies[n] / 1000 + "\n");
+                        } catch (UncheckedIOException e) {
+                            writeFailure.compareAndSet(null, e.getCause());
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                }
+            } finally {
+                // even when a read fails, the files already handed to the pool still write to out, so wait for them
+                // before out is closed
+                pool.shutdown();
+                pool.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        if (writeFailure.get() != null) {
+            throw writeFailure.get();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        double seconds = elapsed / 1e9;
+        System.out.printf("%d inputs (%.1f MB) in %.3f s: %.1f inputs/s, %.2f MB/s%n", files.size(), bytes / 1e6,
+                seconds, files.size() / seconds, bytes / 1e6 / seconds);
+        System.out.printf("latency per input: p50 %.3f ms, p99 %.3f ms, max %.3f ms; %d failed%n",
+                percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6,
+                percentile(latencies, 1.0) / 1e6, failures.get());
+    }
+
+    // Day24 is listed with its test solver first; the last solver of a day is the one for real inputs
+    static Solver<?> solver(String day) {
+        return Days.all()
+                   .stream()
+                   .filter(d -> d.name().equals(day))
+                   .reduce((first, second) -> second)
+                   .orElseThrow(() -> new IllegalArgumentException("No such day: " + day))
+                   .solver();
+    }
+
+    static <P> String solve(Solver<P> solver, String input) {
+        try {
+            var puzzle = solver.parse(input);
+            var partI = escape(String.valueOf(solver.partI(puzzle)));
+            return solver.hasPartII() ? partI + "\t" + escape(String.valueOf(solver.partII(puzzle))) : partI;
+        } catch (RuntimeException | StackOverflowError e) {
+            return "failed: " + escape(e.toString());
+        }
+    }
+
+    // keeps every field on its own line and column, whatever an answer or file name contains
+    static String escape(String field) {
+        return field.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    private static void write(Writer out, String line) {
+        synchronized (out) {
+            try {
+                out.write(line);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    // nearest rank
+    static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+
+        return sorted[Math.max(0, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,168 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+public class Bench {
+    static final int WARMUP_ITERATIONS = Integer.getInteger("bench.warmup", 3);
+    static final int MEASUREMENT_ITERATIONS = Integer.getInteger("bench.iterations", 5);
+    static final long ITERATION_NANOS = Long.getLong("bench.time", 1000) * 1_000_000;
+    static final List<Integer> SCALES = Stream.of(System.getProperty("bench.scales", "").split(","))
+                                              .filter(s -> !s.isBlank())
+                                              .map(Integer::parseInt)
+                                              .toList();
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @SuppressWarnings("unused")
+    private static volatile Object sink;
+
+    public static void main(String... args) throws InterruptedException {
+        // Day17 builds its graph recursively and needs a deep stack
+        var thread = new Thread(null, () -> run(List.of(args)), "bench", 1L << 30);
+        thread.start();
+        thread.join();
+    }
+
+    static void run(List<String> filters) {
+        System.out.printf("%-28s %12s %12s %12s %14s %6s%n", "Benchmark", "ops/s", "ms/op", "alloc MB/s", "alloc B/op", "gc");
+
+        for (var benchmark : benchmarks()) {
+            if (matches(benchmark.name(), filters)) {
+                try {
+                    for (var phase : benchmark.phases()) {
+                        if (matches(phase.name(), filters)) {
+                            run(phase);
+                        }
+                    }
+                } catch (RuntimeException | StackOverflowError e) {
+                    System.out.printf("%-28s failed: %s%n", benchmark.name(), e);
+                }
+            }
+        }
+    }
+
+    private static void run(Phase phase) {
+        try {
+            System.out.println(measure(phase));
+        } catch (RuntimeException | StackOverflowError e) {
+            System.out.printf("%-28s failed: %s%n", phase.name(), e);
+        }
+    }
+
+    private static boolean matches(String name, List<String> filters) {
+        return filters.isEmpty() || filters.stream().anyMatch(f -> name.startsWith(f) || f.startsWith(name));
+    }
+
+    static Result measure(Phase phase) {
+        return measure(phase, WARMUP_ITERATIONS, MEASUREMENT_ITERATIONS, ITERATION_NANOS);
+    }
+
+    static Result measure(Phase phase, int warmupIterations, int measurementIterations, long iterationNanos) {
+        for (int i = 0; i < warmupIterations; i++) {
+            iteration(phase.body(), iterationNanos);
+        }
+
+        var total = new Result(phase.name(), 0, 0, 0, 0);
+
+        for (int i = 0; i < measurementIterations; i++) {
+            total = total.plus(iteration(phase.body(), iterationNanos));
+        }
+
+        return total;
+    }
+
+    private static Result iteration(Supplier<?> body, long iterationNanos) {
+        long gcs = Instrumentation.gcCount();
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        long ops = 0;
+        long elapsed;
+
+        do {
+            sink = body.get();
+            ops++;
+            elapsed = System.nanoTime() - start;
+        } while (elapsed < iterationNanos);
+
+        allocated = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+        return new Result(null, ops, elapsed, allocated, Instrumentation.gcCount() - gcs);
+    }
+
+    /**
+     * The phases of the named benchmark, parse, partI and partII, for code outside the unnamed package: the JMH
+     * benchmarks cannot name these classes and look this method up by reflection.
+     */
+    public static Map<String, Supplier<?>> phases(String name) {
+        var benchmark = benchmarks().stream()
+                                    .filter(b -> b.name().equals(name))
+                                    .findFirst()
+                                    .orElseThrow(() -> new IllegalArgumentException("No such benchmark: " + name));
+        var phases = new LinkedHashMap<String, Supplier<?>>();
+        benchmark.phases().forEach(phase -> phases.put(phase.name().substring(name.length() + 1), phase.body()));
+        return phases;
+    }
+
+    static List<Benchmark<?>> benchmarks() {
+        return Days.all().stream().flatMap(Bench::benchmarks).toList();
+    }
+
+    private static <P> Stream<Benchmark<?>> benchmarks(Days.Day<P> day) {
+        return inputs(day).map(input -> new Benchmark<>(day.name(), input, day.solver()));
+    }
+
+    // With -Dbench.scales set, generated inputs of those scales take the place of the real input
+    private static Stream<Days.Input> inputs(Days.Day<?> day) {
+        if (SCALES.isEmpty()) {
+            return day.inputs().stream();
+        }
+
+        return day.inputs()
+                  .stream()
+                  .filter(input -> input.name().equals("INPUT"))
+                  .flatMap(input -> SCALES.stream()
+                                          .map(scale -> new Days.Input("SCALE_" + scale,
+                                                  () -> Generators.generate(day.name(), scale))));
+    }
+
+    record Benchmark<P>(String day, Days.Input input, Solver<P> solver) {
+        String name() {
+            return day + "." + input.name();
+        }
+
+        List<Phase> phases() {
+            var prefix = name() + ".";
+            var text = input.text().get();
+            var parsed = solver.parse(text);
+            var phases = new ArrayList<Phase>();
+            phases.add(new Phase(prefix + "parse", () -> solver.parse(text)));
+            phases.add(new Phase(prefix + "partI", () -> solver.partI(parsed)));
+
+            if (solver.hasPartII()) {
+                phases.add(new Phase(prefix + "partII", () -> solver.partII(parsed)));
+            }
+
+            return phases;
+        }
+    }
+
+    record Phase(String name, Supplier<?> body) {}
+
+    record Result(String name, long ops, long nanos, long allocatedBytes, long gcs) {
+        Result plus(Result that) {
+            return new Result(name, ops + that.ops, nanos + that.nanos, allocatedBytes + that.allocatedBytes,
+                    gcs + that.gcs);
+        }
+
+        @Override
+        public String toString() {
+            double seconds = nanos / 1e9;
+            return String.format("%-28s %12.3f %12.3f %12.1f %14d %6d", name, ops / seconds, nanos / 1e6 / ops,
+                    allocatedBytes / 1e6 / seconds, allocatedBytes / ops, gcs);
+        }
+    }
+}
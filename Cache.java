@@ -0,0 +1,182 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Results of expensive, deterministic phases kept on disk between runs, keyed by day, phase, the SHA-256 of the
+ * input and the parameters of the phase.
+ * Only used with -Dcache.dir=<directory>; every result is computed otherwise. Each result is a small binary file in
+ * that directory, and once the files take more than -Dcache.maxBytes (64 MiB by default), the least recently used
+ * ones are deleted.
+ */
+final class Cache {
+    static final Path DIRECTORY = directory(System.getProperty("cache.dir", ""));
+    static final long MAX_BYTES = Long.getLong("cache.maxBytes", 64L << 20);
+
+    private static final int MAGIC = 0x414F4343; // "AOCC"
+    private static final int VERSION = 1;
+    private static final String SUFFIX = ".bin";
+
+    private Cache() {}
+
+    record Key(String day, String phase, String inputHash, String params) {
+        Key(String day, String phase, byte[] input, String params) {
+            this(day, phase, HexFormat.of().formatHex(sha256(input)), params);
+        }
+
+        String fileName() {
+            return HexFormat.of().formatHex(sha256(toString().getBytes(StandardCharsets.UTF_8))) + SUFFIX;
+        }
+    }
+
+    /**
+     * The cached result for the key, or the computed one, which is then cached.
+     */
+    static long[] longs(Key key, Supplier<long[]> compute) {
+        if (DIRECTORY == null) {
+            return compute.get();
+        }
+
+        var cached = read(key);
+
+        if (cached != null) {
+            Instrumentation.Counter.CACHE_HITS.increment();
+            return cached;
+        }
+
+        Instrumentation.Counter.CACHE_MISSES.increment();
+        var result = compute.get();
+        write(key, result);
+        return result;
+    }
+
+    static long[] longs(String day, String phase, String input, String params, Supplier<long[]> compute) {
+        return longs(new Key(day, phase, input.getBytes(StandardCharsets.UTF_8), params), compute);
+    }
+
+    static long value(String day, String phase, String input, String params, LongSupplier compute) {
+        return longs(day, phase, input, params, () -> new long[] {compute.getAsLong()})[0];
+    }
+
+    private static Path directory(String directory) {
+        return directory.isBlank() ? null : Path.of(directory);
+    }
+
+    static byte[] sha256(byte[] bytes) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // a missing, unreadable or foreign file is a miss; a hit marks the file as used now
+    private static long[] read(Key key) {
+        var file = DIRECTORY.resolve(key.fileName());
+
+        try (var in = new DataInputStream(Files.newInputStream(file))) {
+            if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION || !in.readUTF().equals(key.toString())) {
+                return null;
+            }
+
+            var result = new long[in.readInt()];
+
+            for (int i = 0; i < result.length; i++) {
+                result[i] = in.readLong();
+            }
+
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return result;
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            System.err.println("Cache: cannot read " + file + ": " + e);
+            return null;
+        }
+    }
+
+    // written to a temporary file and moved into place, so that concurrent runs never read half a file
+    private static void write(Key key, long[] result) {
+        var bytes = new ByteArrayOutputStream(16 + key.toString().length() + 8 * result.length);
+
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeUTF(key.toString());
+            out.writeInt(result.length);
+
+            for (long value : result) {
+                out.writeLong(value);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+
+        try {
+            Files.createDirectories(DIRECTORY);
+            var file = DIRECTORY.resolve(key.fileName());
+            var temporary = Files.createTempFile(DIRECTORY, "entry", ".tmp");
+            Files.write(temporary, bytes.toByteArray());
+
+            try {
+                Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            evict();
+        } catch (IOException e) {
+            System.err.println("Cache: cannot write " + key + ": " + e);
+        }
+    }
+
+    private static synchronized void evict() throws IOException {
+        record Entry(Path file, long size, FileTime used) {}
+
+        List<Path> files;
+
+        try (var list = Files.list(DIRECTORY)) {
+            files = list.filter(file -> file.toString().endsWith(SUFFIX)).toList();
+        }
+
+        var entries = new ArrayList<Entry>();
+        long total = 0;
+
+        for (var file : files) {
+            try {
+                var entry = new Entry(file, Files.size(file), Files.getLastModifiedTime(file));
+                entries.add(entry);
+                total += entry.size();
+            } catch (NoSuchFileException e) {
+                // evicted by another run
+            }
+        }
+
+        entries.sort(Comparator.comparing(Entry::used));
+
+        for (var entry : entries) {
+            if (total <= MAX_BYTES) {
+                break;
+            }
+
+            Files.deleteIfExists(entry.file());
+            total -= entry.size();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Packs two or three int coordinates into one long, so that positions can be kept in a {@link LongSet} or a
+ * {@link LongMap} instead of as records in hash sets and maps.
+ * Two coordinates take 32 bits each. Three take 21 bits each and must lie in [-2^20, 2^20).
+ */
+final class Coords {
+    private static final int BITS3 = 21;
+    private static final long MASK3 = (1L << BITS3) - 1;
+
+    /**
+     * Steps to the four neighbors, clockwise from north: N, E, S, W, with y growing southwards.
+     */
+    static final int[] DX = {0, 1, 0, -1};
+    static final int[] DY = {-1, 0, 1, 0};
+
+    private Coords() {}
+
+    static long pack(int x, int y) {
+        return (long) x << 32 | y & 0xFFFFFFFFL;
+    }
+
+    static int x(long coords) {
+        return (int) (coords >> 32);
+    }
+
+    static int y(long coords) {
+        return (int) coords;
+    }
+
+    static long step(long coords, int dx, int dy) {
+        return pack(x(coords) + dx, y(coords) + dy);
+    }
+
+    static long pack(int x, int y, int z) {
+        if (!fits3(x) || !fits3(y) || !fits3(z)) {
+            throw new IllegalArgumentException("(" + x + ", " + y + ", " + z + ") does not fit in " + BITS3 + " bits");
+        }
+
+        return (x & MASK3) << 2 * BITS3 | (y & MASK3) << BITS3 | z & MASK3;
+    }
+
+    static int x3(long coords) {
+        return (int) (coords << 64 - 3 * BITS3 >> 64 - BITS3);
+    }
+
+    static int y3(long coords) {
+        return (int) (coords << 64 - 2 * BITS3 >> 64 - BITS3);
+    }
+
+    static int z3(long coords) {
+        return (int) (coords << 64 - BITS3 >> 64 - BITS3);
+    }
+
+    static long step(long coords, int dx, int dy, int dz) {
+        return pack(x3(coords) + dx, y3(coords) + dy, z3(coords) + dz);
+    }
+
+    private static boolean fits3(int v) {
+        return v << 32 - BITS3 >> 32 - BITS3 == v;
+    }
+}
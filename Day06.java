@@ -1,31 +1,339 @@
-import java.util.stream.Collectors;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.stream.IntStream;
-import java.util.stream.Stream;
+import java.util.stream.LongStream;
 
 public class Day06 {
-    private static final String INPUT = """
+    // counts the winning loads one by one instead, to compare against
+    static final boolean LOOP = Boolean.getBoolean("day06.loop");
+
+    // above this, time * time no longer fits in a long
+    private static final long MAX_LONG_TIME = 3_037_000_499L;
+
+    static final String INPUT = """
             Time:        60     94     78     82
             Distance:   475   2138   1015   1650""";
 
+    static final Solver<Sheet> SOLVER = Solver.of(Day06::parse, Day06::partI, Day06::partII);
+
     public static void main(String... args) {
-        long[] times = parseLine(0).mapToLong(Long::parseLong).toArray();
-        long[] distances = parseLine(1).mapToLong(Long::parseLong).toArray();
-        long partI = IntStream.range(0, times.length)
-                              .mapToLong(i -> waysToWin(times[i], distances[i]))
-                              .reduce(1, (a, b) -> a * b);
-        System.out.println(partI);
+        if (args.length > 0) {
+            try (var input = AocInput.open(Path.of(args[0]))) {
+                var sheet = parse(input);
+                System.out.println("Races: " + sheet.times().columns().length);
+                System.out.println("Ways to win: " + totalWaysToWin(sheet));
+            }
+
+            return;
+        }
+
+        var sheet = parse(INPUT);
+        System.out.println(partI(sheet));
+        System.out.println(partII(sheet));
+    }
+
+    static Sheet parse(String input) {
+        return parse(AocInput.of(input));
+    }
+
+    static Sheet parse(AocInput input) {
+        var rows = new ArrayList<Row>(2);
+
+        input.lines(line -> {
+            if (!line.isEmpty()) {
+                rows.add(Row.parse(line));
+            }
+        });
+
+        if (rows.size() != 2) {
+            throw new IllegalArgumentException("Expected a line of times and a line of distances, got " + rows.size());
+        }
+
+        return new Sheet(rows.get(0), rows.get(1));
+    }
+
+    /**
+     * A long, or a BigInteger if a time or distance does not fit in one.
+     */
+    static Number partI(Sheet sheet) {
+        var times = sheet.times();
+        var distances = sheet.distances();
+
+        if (times.wideColumns() == null && distances.wideColumns() == null) {
+            return IntStream.range(0, times.columns().length)
+                            .mapToLong(i -> waysToWin(times.columns()[i], distances.columns()[i]))
+                            .reduce(1, (a, b) -> a * b);
+        }
+
+        return IntStream.range(0, times.columns().length)
+                        .mapToObj(i -> waysToWin(times.column(i), distances.column(i)))
+                        .reduce(BigInteger.ONE, BigInteger::multiply);
+    }
+
+    /**
+     * The ways to win summed over every race of the sheet: a long, or a BigInteger if a time or distance does not
+     * fit in one.
+     */
+    static Number totalWaysToWin(Sheet sheet) {
+        var times = sheet.times();
+        var distances = sheet.distances();
+
+        if (times.wideColumns() == null && distances.wideColumns() == null) {
+            return LongStream.of(waysToWin(times.columns(), distances.columns())).reduce(0, Math::addExact);
+        }
+
+        if (times.columns().length != distances.columns().length) {
+            throw new IllegalArgumentException(
+                    times.columns().length + " times but " + distances.columns().length + " distances");
+        }
+
+        return IntStream.range(0, times.columns().length)
+                        .mapToObj(i -> waysToWin(times.column(i), distances.column(i)))
+                        .reduce(BigInteger.ZERO, BigInteger::add);
+    }
+
+    /**
+     * A long, or a BigInteger if the kerned time or distance does not fit in one.
+     */
+    static Number partII(Sheet sheet) {
+        var time = sheet.times();
+        var distance = sheet.distances();
+
+        if (time.overflow() == null && distance.overflow() == null) {
+            return waysToWin(time.kerned(), distance.kerned());
+        }
+
+        return waysToWin(time.kernedValue(), distance.kernedValue());
+    }
+
+    record Sheet(Row times, Row distances) {}
+
+    /**
+     * The numbers on one line of the sheet, read both ways in one pass: as columns, and as the single number left
+     * when the spaces between the columns are removed. If that number does not fit in a long, its digits are kept in
+     * overflow instead, and only converted when asked for: that takes longer than the whole pass on huge sheets.
+     * A column that does not fit in a long is 0 in columns and kept in wideColumns, which is null while every column
+     * fits.
+     */
+    record Row(long[] columns, BigInteger[] wideColumns, long kerned, Digits overflow) {
+        static Row parse(AocInput.Line line) {
+            var columns = new long[16];
+            BigInteger[] wideColumns = null;
+            int count = 0;
+            long column = 0;
+            Digits wideColumn = null;
+            long kerned = 0;
+            Digits overflow = null;
+            boolean inNumber = false;
+
+            for (int i = 0; i <= line.length(); i++) {
+                int digit = i < line.length() ? line.charAt(i) - '0' : -1;
+
+                if (digit >= 0 && digit <= 9) {
+                    if (wideColumn != null) {
+                        wideColumn.add(digit);
+                    } else if (column > (Long.MAX_VALUE - digit) / 10) {
+                        wideColumn = new Digits(column);
+                        wideColumn.add(digit);
+                    } else {
+                        column = column * 10 + digit;
+                    }
+
+                    if (overflow != null) {
+                        overflow.add(digit);
+                    } else if (kerned > (Long.MAX_VALUE - digit) / 10) {
+                        overflow = new Digits(kerned);
+                        overflow.add(digit);
+                    } else {
+                        kerned = kerned * 10 + digit;
+                    }
+
+                    inNumber = true;
+                } else if (inNumber) {
+                    if (wideColumn != null) {
+                        if (wideColumns == null || count >= wideColumns.length) {
+                            wideColumns = Arrays.copyOf(wideColumns == null ? new BigInteger[0] : wideColumns,
+                                                        Math.max(16, 2 * count));
+                        }
+
+                        wideColumns[count] = wideColumn.value();
+                        column = 0;
+                        wideColumn = null;
+                    }
+
+                    columns = add(columns, count++, column);
+                    column = 0;
+                    inNumber = false;
+                }
+            }
+
+            return new Row(Arrays.copyOf(columns, count), wideColumns == null ? null : Arrays.copyOf(wideColumns, count),
+                           kerned, overflow);
+        }
+
+        BigInteger column(int index) {
+            return wideColumns != null && wideColumns[index] != null
+                   ? wideColumns[index]
+                   : BigInteger.valueOf(columns[index]);
+        }
+
+        private static long[] add(long[] columns, int index, long column) {
+            if (index == columns.length) {
+                columns = Arrays.copyOf(columns, 2 * columns.length);
+            }
+
+            columns[index] = column;
+            return columns;
+        }
+
+        BigInteger kernedValue() {
+            return overflow != null ? overflow.value() : BigInteger.valueOf(kerned);
+        }
+    }
+
+    /**
+     * Decimal digits of a number too long for a long. They are converted by halves, so that huge numbers take
+     * a few large multiplications rather than one small multiplication per digit.
+     */
+    static final class Digits {
+        private byte[] digits = new byte[64];
+        private int size;
+
+        Digits(long prefix) {
+            do {
+                add((int) (prefix % 10));
+                prefix /= 10;
+            } while (prefix > 0);
+
+            for (int i = 0, j = size - 1; i < j; i++, j--) {
+                byte digit = digits[i];
+                digits[i] = digits[j];
+                digits[j] = digit;
+            }
+        }
+
+        void add(int digit) {
+            if (size == digits.length) {
+                digits = Arrays.copyOf(digits, 2 * size);
+            }
+
+            digits[size++] = (byte) digit;
+        }
+
+        BigInteger value() {
+            return value(0, size);
+        }
+
+        private BigInteger value(int from, int to) {
+            if (to - from <= 18) {
+                long value = 0;
+
+                for (int i = from; i < to; i++) {
+                    value = value * 10 + digits[i];
+                }
+
+                return BigInteger.valueOf(value);
+            }
+
+            int middle = (from + to) >>> 1;
+            return value(from, middle).multiply(BigInteger.TEN.pow(to - middle)).add(value(middle, to));
+        }
+    }
+
+    /**
+     * The ways to win each race, for races given as parallel arrays of times and record distances.
+     */
+    static long[] waysToWin(long[] times, long[] recordDistances) {
+        if (times.length != recordDistances.length) {
+            throw new IllegalArgumentException(times.length + " times but " + recordDistances.length + " distances");
+        }
+
+        var ways = new long[times.length];
+
+        for (int i = 0; i < times.length; i++) {
+            ways[i] = waysToWin(times[i], recordDistances[i]);
+        }
+
+        return ways;
+    }
+
+    /**
+     * Holding the button for load ms goes (time - load) * load mm, which beats the record between the two roots of
+     * load^2 - time * load + record = 0. The first winning load is found from the integer square root of the
+     * discriminant, and the winning loads are symmetric around time / 2.
+     */
+    static long waysToWin(long time, long recordDistance) {
+        if (LOOP) {
+            return waysToWinByLoop(time, recordDistance);
+        }
+
+        if (time > MAX_LONG_TIME) {
+            return waysToWin(BigInteger.valueOf(time), BigInteger.valueOf(recordDistance)).longValueExact();
+        }
+
+        if (time < 0) {
+            return 0;
+        }
+
+        if (recordDistance < 0) {
+            return time + 1;
+        }
+
+        long half = time / 2;
+
+        if (half * (time - half) <= recordDistance) {
+            return 0;
+        }
+
+        long load = (time - AocUtils.isqrt(time * time - 4 * recordDistance)) / 2;
+
+        while (load > 0 && (load - 1) * (time - load + 1) > recordDistance) {
+            load--;
+        }
+
+        while (load * (time - load) <= recordDistance) {
+            load++;
+        }
+
+        return time - 2 * load + 1;
+    }
+
+    static BigInteger waysToWin(BigInteger time, BigInteger recordDistance) {
+        if (time.signum() < 0) {
+            return BigInteger.ZERO;
+        }
+
+        if (recordDistance.signum() < 0) {
+            return time.add(BigInteger.ONE);
+        }
+
+        var half = time.shiftRight(1);
+
+        if (half.multiply(time.subtract(half)).compareTo(recordDistance) <= 0) {
+            return BigInteger.ZERO;
+        }
+
+        var discriminant = time.multiply(time).subtract(recordDistance.shiftLeft(2));
+        var load = time.subtract(discriminant.sqrt()).shiftRight(1);
+
+        while (load.signum() > 0 && beats(load.subtract(BigInteger.ONE), time, recordDistance)) {
+            load = load.subtract(BigInteger.ONE);
+        }
+
+        while (!beats(load, time, recordDistance)) {
+            load = load.add(BigInteger.ONE);
+        }
 
-        long time = Long.parseLong(parseLine(0).collect(Collectors.joining()));
-        long distance = Long.parseLong(parseLine(1).collect(Collectors.joining()));
-        long partII = waysToWin(time, distance);
-        System.out.println(partII);
+        return time.subtract(load.shiftLeft(1)).add(BigInteger.ONE);
     }
 
-    private static Stream<String> parseLine(int line) {
-        return Stream.of(INPUT.lines().toList().get(line).split("\\s+")).skip(1);
+    private static boolean beats(BigInteger load, BigInteger time, BigInteger recordDistance) {
+        return load.multiply(time.subtract(load)).compareTo(recordDistance) > 0;
     }
 
-    private static long waysToWin(long time, long recordDistance) {
+    static long waysToWinByLoop(long time, long recordDistance) {
         long count = 0;
 
         for (long load = 0; load <= time; load++) {
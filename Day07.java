@@ -1,38 +1,418 @@
-import java.util.Comparator;
-import java.util.HashMap;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.IntStream;
 
 public class Day07 {
-    private static final String INPUT = """
+    // sorts the hands with Hand.compareTo instead of by their keys, to compare against
+    static final boolean COMPARATOR = Boolean.getBoolean("day07.comparator");
+    // hands per sorted run when ranking a file, which bounds the memory it takes
+    static final int RUN_HANDS = Integer.getInteger("day07.runHands", 1 << 20);
+    // runs merged at once, which bounds the open files and their buffers however many runs there are
+    static final int MERGE_RUNS = Math.max(2, Integer.getInteger("day07.mergeRuns", 64));
+
+    static final String INPUT = """
             32T3K 765
             T55J5 684
             KK677 28
             KTJJT 220
             QQQJA 483""";
 
+    static final Solver<List<Hand>> SOLVER = Solver.of(Day07::parse, Day07::partI, Day07::partII);
+
     public static void main(String... args) {
-        for (boolean jForJoker : List.of(false, true)) {
-            var hands = INPUT
-                    .lines()
-                    .map(line -> parseHand(line, jForJoker))
-                    .sorted()
-                    .toList();
+        if (args.length > 0) {
+            try (var input = AocInput.open(Path.of(args[0]))) {
+                var winnings = winnings(input);
+                System.out.println("Part I: " + winnings[0]);
+                System.out.println("Part II: " + winnings[1]);
+            }
+
+            return;
+        }
+
+        var hands = parse(INPUT);
+        System.out.println(partI(hands));
+        System.out.println(partII(hands));
+    }
+
+    static List<Hand> parse(String input) {
+        return input.lines().map(Day07::parseHand).toList();
+    }
+
+    static long partI(List<Hand> hands) {
+        return winnings(hands, false);
+    }
+
+    static long partII(List<Hand> hands) {
+        return winnings(hands, true);
+    }
+
+    // with jokers, every J counts as a Joker
+    private static long winnings(List<Hand> hands, boolean jokers) {
+        if (COMPARATOR) {
+            var sorted = hands.stream().map(hand -> jokers ? hand.withJokers() : hand).sorted().toList();
+
+            return IntStream.rangeClosed(1, sorted.size())
+                            .mapToLong(rank -> sorted.get(rank - 1).bid() * rank)
+                            .sum();
+        }
+
+        if (hands.isEmpty()) {
+            return 0;
+        }
+
+        var classifier = Classifier.of(hands.getFirst().cards().size());
+        var histogram = classifier.histogram();
+        var cards = new int[classifier.handLength()];
+        var keys = new long[hands.size()];
+        var bids = new long[hands.size()];
+
+        for (int i = 0; i < keys.length; i++) {
+            var hand = hands.get(i);
+
+            if (hand.cards().size() != cards.length) {
+                throw new IllegalArgumentException("Hands of " + cards.length + " and " + hand.cards().size() + " cards");
+            }
+
+            for (int c = 0; c < cards.length; c++) {
+                var card = hand.cards().get(c);
+                cards[c] = jokers && card == Card.J ? Card.Joker.ordinal() : card.ordinal();
+            }
+
+            keys[i] = classifier.key(cards, histogram);
+            bids[i] = hand.bid();
+        }
+
+        RadixSort.sort(keys, bids);
+        long winnings = 0;
+
+        for (int i = 0; i < bids.length; i++) {
+            winnings += bids[i] * (i + 1);
+        }
+
+        return winnings;
+    }
+
+    /**
+     * The winnings of both parts for hands read from the input one line at a time. Every RUN_HANDS hands are sorted by
+     * key and spilled to a temporary file. The runs are merged MERGE_RUNS at a time into longer runs until at most
+     * MERGE_RUNS are left, which are merged back in key order while the winnings are summed, so neither the hands nor
+     * the buffers of their runs need fit in memory. The sums are BigIntegers, as for a billion hands they do not fit
+     * in a long.
+     */
+    static BigInteger[] winnings(AocInput input) {
+        try (var partI = new Runs(RUN_HANDS); var partII = new Runs(RUN_HANDS)) {
+            var hand = new int[][] {null};
+            var classifiers = new Classifier[] {null};
+            var histogram = new int[CARDS.length];
+
+            input.lines(line -> {
+                if (line.isEmpty()) {
+                    return;
+                }
+
+                int length = 0;
+
+                while (length < line.length() && line.charAt(length) != ' ') {
+                    length++;
+                }
+
+                if (hand[0] == null) {
+                    hand[0] = new int[length];
+                    classifiers[0] = Classifier.of(length);
+                }
+
+                var cards = hand[0];
+                var classifier = classifiers[0];
+
+                if (length != cards.length) {
+                    throw new IllegalArgumentException("Hands of " + cards.length + " and " + length + " cards");
+                }
+
+                for (int c = 0; c < length; c++) {
+                    cards[c] = cardOrdinal(line.charAt(c));
+                }
+
+                long bid = 0;
+
+                for (int i = length + 1; i < line.length(); i++) {
+                    bid = bid * 10 + line.charAt(i) - '0';
+                }
+
+                partI.add(classifier.key(cards, histogram), bid);
 
-            var winnings = IntStream.rangeClosed(1, hands.size())
-                                    .mapToLong(rank -> hands.get(rank - 1).bid() * rank)
-                                    .sum();
+                for (int c = 0; c < length; c++) {
+                    if (cards[c] == Card.J.ordinal()) {
+                        cards[c] = Card.Joker.ordinal();
+                    }
+                }
 
-            System.out.println(winnings);
+                partII.add(classifier.key(cards, histogram), bid);
+            });
+
+            return new BigInteger[] {partI.winnings(), partII.winnings()};
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // the last character of a card's name is its label: C2 is 2, T is T
+    private static int cardOrdinal(char label) {
+        for (var card : CARDS) {
+            if (card != Card.Joker && card.name().charAt(card.name().length() - 1) == label) {
+                return card.ordinal();
+            }
         }
+
+        throw new IllegalArgumentException("No such card: " + label);
     }
 
-    private static Hand parseHand(String line, boolean jForJoker) {
+    private static final Card[] CARDS = Card.values();
+
+    /**
+     * Keys and bids, sorted and spilled to a temporary file whenever a run's worth has been added.
+     */
+    private static final class Runs implements AutoCloseable {
+        private final long[] keys;
+        private final long[] bids;
+        // every file created, so that close deletes any a failed merge left behind
+        private final List<Path> created = new ArrayList<>();
+        // the runs still to be merged, in the order their hands came
+        private List<Path> files = new ArrayList<>();
+        private int size;
+
+        Runs(int runSize) {
+            keys = new long[runSize];
+            bids = new long[runSize];
+        }
+
+        void add(long key, long bid) {
+            if (size == keys.length) {
+                spill();
+            }
+
+            keys[size] = key;
+            bids[size] = bid;
+            size++;
+        }
+
+        private void spill() {
+            var sortedKeys = size == keys.length ? keys : Arrays.copyOf(keys, size);
+            var sortedBids = size == keys.length ? bids : Arrays.copyOf(bids, size);
+            RadixSort.sort(sortedKeys, sortedBids);
+
+            try {
+                var file = createRun();
+                files.add(file);
+
+                try (var out = output(file)) {
+                    for (int i = 0; i < size; i++) {
+                        out.writeLong(sortedKeys[i]);
+                        out.writeLong(sortedBids[i]);
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            size = 0;
+        }
+
+        BigInteger winnings() throws IOException {
+            var winnings = new Winnings();
+
+            if (files.isEmpty()) {
+                var sortedKeys = Arrays.copyOf(keys, size);
+                var sortedBids = Arrays.copyOf(bids, size);
+                RadixSort.sort(sortedKeys, sortedBids);
+
+                for (long bid : sortedBids) {
+                    winnings.add(bid);
+                }
+
+                return winnings.total();
+            }
+
+            if (size > 0) {
+                spill();
+            }
+
+            while (files.size() > MERGE_RUNS) {
+                var merged = new ArrayList<Path>();
+
+                for (int from = 0; from < files.size(); from += MERGE_RUNS) {
+                    var group = files.subList(from, Math.min(from + MERGE_RUNS, files.size()));
+
+                    if (group.size() == 1) {
+                        merged.add(group.getFirst());
+                        continue;
+                    }
+
+                    var file = createRun();
+                    merged.add(file);
+
+                    try (var out = output(file)) {
+                        merge(group, (key, bid) -> {
+                            out.writeLong(key);
+                            out.writeLong(bid);
+                        });
+                    }
+
+                    for (var run : group) {
+                        Files.delete(run);
+                    }
+                }
+
+                files = merged;
+            }
+
+            merge(files, (key, bid) -> winnings.add(bid));
+            return winnings.total();
+        }
+
+        private Path createRun() throws IOException {
+            var file = Files.createTempFile("day07-run", ".bin");
+            created.add(file);
+            return file;
+        }
+
+        private static DataOutputStream output(Path file) throws IOException {
+            return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        }
+
+        private interface Merged {
+            void accept(long key, long bid) throws IOException;
+        }
+
+        // hands out the keys and bids of the runs in key order, and hands with equal keys in the order of their runs
+        private static void merge(List<Path> files, Merged merged) throws IOException {
+            var runs = new DataInputStream[files.size()];
+            var remaining = new long[runs.length];
+            var keys = new long[runs.length];
+            var bids = new long[runs.length];
+            // runs by their next key, and among equal keys by run, which keeps equal hands in the order they came
+            var heap = new int[runs.length];
+            int size = 0;
+
+            try {
+                for (int r = 0; r < runs.length; r++) {
+                    runs[r] = new DataInputStream(new BufferedInputStream(Files.newInputStream(files.get(r)), 1 << 16));
+                    remaining[r] = Files.size(files.get(r)) / (2 * Long.BYTES);
+
+                    if (next(runs[r], remaining, keys, bids, r)) {
+                        heap[size++] = r;
+                    }
+                }
+
+                for (int i = size / 2 - 1; i >= 0; i--) {
+                    siftDown(heap, size, i, keys);
+                }
+
+                while (size > 0) {
+                    int r = heap[0];
+                    merged.accept(keys[r], bids[r]);
+
+                    if (!next(runs[r], remaining, keys, bids, r)) {
+                        heap[0] = heap[--size];
+                    }
+
+                    siftDown(heap, size, 0, keys);
+                }
+            } finally {
+                for (var run : runs) {
+                    if (run != null) {
+                        run.close();
+                    }
+                }
+            }
+        }
+
+        private static boolean next(DataInputStream run, long[] remaining, long[] keys, long[] bids, int r)
+                throws IOException {
+            if (remaining[r] == 0) {
+                return false;
+            }
+
+            remaining[r]--;
+            keys[r] = run.readLong();
+            bids[r] = run.readLong();
+            return true;
+        }
+
+        private static void siftDown(int[] heap, int size, int i, long[] keys) {
+            int r = heap[i];
+
+            while (2 * i + 1 < size) {
+                int child = 2 * i + 1;
+
+                if (child + 1 < size && before(heap[child + 1], heap[child], keys)) {
+                    child++;
+                }
+
+                if (!before(heap[child], r, keys)) {
+                    break;
+                }
+
+                heap[i] = heap[child];
+                i = child;
+            }
+
+            heap[i] = r;
+        }
+
+        private static boolean before(int a, int b, long[] keys) {
+            return keys[a] < keys[b] || keys[a] == keys[b] && a < b;
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (var file : created) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * The sum of bid * rank over hands added in rank order, kept in a long until it would overflow.
+     */
+    private static final class Winnings {
+        private BigInteger total = BigInteger.ZERO;
+        private long sum;
+        private long rank;
+
+        void add(long bid) {
+            long winning = Math.multiplyExact(bid, ++rank);
+
+            if (sum > Long.MAX_VALUE - winning) {
+                total = total.add(BigInteger.valueOf(sum));
+                sum = 0;
+            }
+
+            sum += winning;
+        }
+
+        BigInteger total() {
+            return total.add(BigInteger.valueOf(sum));
+        }
+    }
+
+    private static Hand parseHand(String line) {
         var parts = line.split(" ");
         var bid = Long.parseLong(parts[1]);
         var cards = parts[0].chars()
                             .mapToObj(ch -> Card.valueOf((Character.isDigit(ch) ? "C" : "") + (char) ch))
-                            .map(card -> jForJoker && card == Card.J ? Card.Joker : card)
                             .toList();
 
         return new Hand(cards, bid);
@@ -43,14 +423,14 @@ public class Day07 {
         Joker, C2, C3, C4, C5, C6, C7, C8, C9, T, J, Q, K, A
     }
 
-    enum Type {
-        HIGHEST, PAIR, TWO_PAIRS, THREE_OF_A_KIND, FULL_HOUSE, FOUR_OF_A_KIND, FIVE_OF_A_KIND
-    }
-
     record Hand(List<Card> cards, long bid) implements Comparable<Hand> {
+        Hand withJokers() {
+            return new Hand(cards.stream().map(card -> card == Card.J ? Card.Joker : card).toList(), bid);
+        }
+
         @Override
         public int compareTo(Hand o) {
-            return IntStream.concat(IntStream.of(type().compareTo(o.type())),
+            return IntStream.concat(IntStream.of(Integer.compare(type(), o.type())),
                                     IntStream.range(0, cards.size())
                                              .map(i -> cards.get(i).compareTo(o.cards.get(i))))
                             .filter(i -> i != 0)
@@ -58,25 +438,144 @@ public class Day07 {
                             .orElse(0);
         }
 
-        private Type type() {
-            var counts = new HashMap<Card, Integer>();
-            cards.forEach(c -> counts.merge(c, 1, Integer::sum));
-            var jokers = counts.remove(Card.Joker);
+        int type() {
+            var classifier = Classifier.of(cards.size());
+            return classifier.type(cards.stream().mapToInt(Card::ordinal).toArray(), classifier.histogram());
+        }
+    }
+
+    /**
+     * Classifies hands of handLength cards out of alphabetSize card values, of which joker, if it is one, joins
+     * whichever value the hand has most of. A hand's type is the rank of its shape, its card counts sorted from
+     * largest to smallest, among all shapes of handLength cards in lexicographic order; for five cards that runs from 0
+     * for a high card to 6 for five of a kind.
+     * <p>
+     * A shape is looked up in a table by how many values occur once, twice and so on. That code changes by a fixed
+     * amount with every card added to the histogram, so no counts are sorted and no map is built per hand.
+     */
+    static final class Classifier {
+        private static final int MAX_SHAPE_CODES = 1 << 24;
+        private static final Map<Integer, Classifier> OF_LENGTH = new ConcurrentHashMap<>();
+
+        private final int handLength;
+        private final int alphabetSize;
+        private final int joker;
+        private final int cardBits;
+        // the place value, in a shape code, of the number of card values that occur that many times
+        private final int[] weights;
+        private final int[] types;
+
+        Classifier(int handLength, int alphabetSize, int joker) {
+            if (handLength < 1 || alphabetSize < 1) {
+                throw new IllegalArgumentException("No hands of " + handLength + " out of " + alphabetSize + " cards");
+            }
+
+            this.handLength = handLength;
+            this.alphabetSize = alphabetSize;
+            this.joker = joker;
+            this.cardBits = Math.max(1, 32 - Integer.numberOfLeadingZeros(alphabetSize - 1));
+            this.weights = new int[handLength + 1];
+            long codes = 1;
+
+            for (int count = 1; count <= handLength; count++) {
+                weights[count] = (int) codes;
+                codes *= handLength / count + 1;
+
+                if (codes > MAX_SHAPE_CODES) {
+                    throw new IllegalArgumentException("Too many hand shapes to tabulate for " + handLength + " cards");
+                }
+            }
+
+            var shapes = new ArrayList<int[]>();
+            shapes(handLength, handLength, new int[handLength], 0, shapes);
+            this.types = new int[(int) codes];
+            Arrays.fill(types, -1);
 
-            if (jokers != null) {
-                Card highest = counts.keySet().stream().max(Comparator.comparingInt(counts::get)).orElse(Card.Joker);
-                counts.merge(highest, jokers, Integer::sum);
+            for (int i = 0; i < shapes.size(); i++) {
+                types[code(shapes.get(i))] = shapes.size() - 1 - i;
             }
 
-            var maxCount = counts.values().stream().mapToInt(i -> i).max().orElse(0);
+            if (32 - Integer.numberOfLeadingZeros(shapes.size() - 1) + cardBits * handLength >= Long.SIZE) {
+                throw new IllegalArgumentException("Hands of " + handLength + " cards do not fit in a key");
+            }
+        }
+
+        static Classifier of(int handLength) {
+            return OF_LENGTH.computeIfAbsent(handLength,
+                    length -> new Classifier(length, Card.values().length, Card.Joker.ordinal()));
+        }
+
+        // every shape of remaining cards with no count above max, largest first
+        private static void shapes(int remaining, int max, int[] counts, int size, List<int[]> shapes) {
+            if (remaining == 0) {
+                shapes.add(Arrays.copyOf(counts, size));
+                return;
+            }
+
+            for (int count = Math.min(remaining, max); count >= 1; count--) {
+                counts[size] = count;
+                shapes(remaining - count, count, counts, size + 1, shapes);
+            }
+        }
+
+        private int code(int[] shape) {
+            int code = 0;
+
+            for (int count : shape) {
+                code += weights[count];
+            }
+
+            return code;
+        }
+
+        int handLength() {
+            return handLength;
+        }
+
+        /**
+         * A histogram for {@link #type}, which leaves it zeroed again for the next hand.
+         */
+        int[] histogram() {
+            return new int[alphabetSize];
+        }
+
+        int type(int[] cards, int[] histogram) {
+            if (cards.length != handLength) {
+                throw new IllegalArgumentException("Expected " + handLength + " cards, got " + cards.length);
+            }
+
+            int code = 0;
+            int max = 0;
+            int jokers = 0;
+
+            for (int card : cards) {
+                if (card == joker) {
+                    jokers++;
+                } else {
+                    int count = ++histogram[card];
+                    code += weights[count] - weights[count - 1];
+                    max = Math.max(max, count);
+                }
+            }
+
+            for (int card : cards) {
+                histogram[card] = 0;
+            }
+
+            return types[code + weights[max + jokers] - weights[max]];
+        }
+
+        /**
+         * The type and then the cards, packed so that keys order like the hands do.
+         */
+        long key(int[] cards, int[] histogram) {
+            long key = type(cards, histogram);
+
+            for (int card : cards) {
+                key = key << cardBits | card;
+            }
 
-            return switch (counts.size()) {
-                case 1 -> Type.FIVE_OF_A_KIND;
-                case 2 -> maxCount == 4 ? Type.FOUR_OF_A_KIND : Type.FULL_HOUSE;
-                case 3 -> maxCount == 3 ? Type.THREE_OF_A_KIND : Type.TWO_PAIRS;
-                case 4 -> Type.PAIR;
-                default -> Type.HIGHEST;
-            };
+            return key;
         }
     }
 }
@@ -1,69 +1,600 @@
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
+import java.util.function.IntPredicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 public class Day08 {
+    // steps all ghosts in lockstep until they meet instead of analysing their cycles, to check against
+    static final boolean SIMULATE = Boolean.getBoolean("day08.simulate");
+    // seconds between progress reports of a simulation, 0 for none
+    static final long PROGRESS_SECONDS = Long.getLong("day08.progress", 0);
+    // steps after which a simulation gives up, if it has not run out of steps where the ghosts could meet before
+    static final long SIMULATE_STEPS = Long.getLong("day08.simulateSteps", Long.MAX_VALUE);
+
+    static final Solver<Document> SOLVER = Solver.of(Day08::parse, Day08::partI, Day08::partII);
+    // where WALK_STEPS steps take every ghost, found by jump tables as part I and step by step as part II, so that
+    // Bench and Regression time both and check that they agree
+    static final Solver<Document> WALK_SOLVER = Solver.of(Day08::parse, document -> walks(document, false),
+            document -> walks(document, true));
+    static final long WALK_STEPS = 10_000_019;
+
     public static void main(String[] args) {
-        partI(TESTINPUT);
-        partI(INPUT);
+        if (args.length == 2) {
+            var network = parse(INPUT).network();
+            System.out.println(network.name(network.walk(network.node(args[0]), Long.parseLong(args[1]))));
+            return;
+        }
+
+        System.out.println(partI(parse(TESTINPUT)));
+        System.out.println(partI(parse(INPUT)));
+
+        System.out.println(partII(parse(TESTINPUT)));
+        System.out.println(partII(parse(TESTINPUT2)));
+        System.out.println(partII(parse(INPUT)));
+    }
 
-        partII(TESTINPUT);
-        partII(TESTINPUT2);
-        partII(INPUT);
+    static Document parse(String input) {
+        var lines = input.lines().toList();
+        var instructions = parseInstructions(lines.getFirst());
+        return new Document(instructions, new Network(lines.subList(2, lines.size()), instructions));
     }
 
-    private static void partI(String input) {
-        var instructions = parseInstructions(input);
-        var network = parseNetwork(input);
-        var repetitions = repetitions(instructions, network, "AAA");
-        System.out.println(repetitions * instructions.size());
+    static long partI(Document document) {
+        var network = document.network();
+        int end = network.node("ZZZ");
+        return network.firstHit(network.node("AAA"), node -> node == end);
+    }
+
+    static long partII(Document document) {
+        var network = document.network();
+        var cycles = IntStream.range(0, network.size())
+                              .filter(network::isStart)
+                              .mapToObj(start -> network.cycle(start, network::isEnd))
+                              .toList();
+
+        if (SIMULATE) {
+            return simulate(network, cycles);
+        }
+
+        return firstCommonHit(cycles);
     }
 
-    private static void partII(String input) {
-        var instructions = parseInstructions(input);
-        var network = parseNetwork(input);
-        var nodes = network.left.keySet().stream().filter(node -> node.endsWith("A"));
-        var repetitions = AocUtils.lcm(nodes.mapToLong(node -> repetitions(instructions, network, node)));
-        System.out.println(repetitions * instructions.size());
+    /**
+     * The first common step found by stepping the ghosts, within SIMULATE_STEPS. Once every walk is in its cycle, the
+     * hits of all of them repeat every lcm of the cycle lengths steps, so a simulation that gets that far past the
+     * last cycle start without a common hit will never find one.
+     */
+    static long simulate(Network network, List<Cycle> cycles) {
+        long lastStart = cycles.stream().mapToLong(Cycle::start).max().orElseThrow();
+        var hopeless = AocUtils.bigLcm(cycles.stream().mapToLong(Cycle::length)).add(BigInteger.valueOf(lastStart));
+        long limit = Math.min(SIMULATE_STEPS, hopeless.bitLength() < Long.SIZE ? hopeless.longValue() : Long.MAX_VALUE);
+        var starts = IntStream.range(0, network.size()).filter(network::isStart).toArray();
+        var simulation = new Simulation(network, starts, network::isEnd, Runtime.getRuntime().availableProcessors());
+        long step = simulation.run(limit);
+
+        if (step >= 0) {
+            return step;
+        }
+
+        if (limit == SIMULATE_STEPS) {
+            throw new IllegalStateException("The walks are not all on a target at once within " + limit + " steps");
+        }
+
+        throw new IllegalStateException("The walks are never all on a target at once");
+    }
+
+    static String walks(Document document, boolean stepByStep) {
+        var network = document.network();
+        return IntStream.range(0, network.size())
+                        .filter(network::isStart)
+                        .map(start -> stepByStep ? network.stepByStep(start, WALK_STEPS)
+                                : network.walk(start, WALK_STEPS))
+                        .mapToObj(network::name)
+                        .collect(Collectors.joining(","));
+    }
+
+    /**
+     * The first step at which every walk is on a target node. Before the last walk to enter its cycle has done so,
+     * that can only be one of its tail hits; from then on, every walk hits on some of its offsets, and each choice
+     * of one offset per walk is combined into a single congruence by the Chinese remainder theorem.
+     */
+    static long firstCommonHit(List<Cycle> cycles) {
+        var last = cycles.stream().max(Comparator.comparingLong(Cycle::start)).orElseThrow();
+
+        for (long step : last.tail()) {
+            if (cycles.stream().allMatch(cycle -> cycle.hits(step))) {
+                return step;
+            }
+        }
+
+        var common = List.of(new AocUtils.Congruence(0, 1));
+
+        for (var cycle : cycles) {
+            var next = new HashSet<AocUtils.Congruence>();
+
+            for (var congruence : common) {
+                for (long offset : cycle.offsets()) {
+                    AocUtils.crt(List.of(congruence, new AocUtils.Congruence(offset, cycle.length())))
+                            .ifPresent(next::add);
+                }
+            }
+
+            common = List.copyOf(next);
+        }
+
+        return common.stream()
+                     .mapToLong(c -> c.remainder() >= last.start() ? c.remainder()
+                             : Math.addExact(c.remainder(),
+                                     Math.multiplyExact(Math.ceilDiv(last.start() - c.remainder(), c.modulus()),
+                                             c.modulus())))
+                     .min()
+                     .orElseThrow(() -> new IllegalStateException("The walks are never all on a target at once"));
     }
 
-    private enum Instruction {L, R}
+    /**
+     * The steps at which a walk is on a target node: the steps in tail, all before start, and from start on every
+     * step congruent to one of offsets modulo length. Both arrays are sorted, and offsets lie in [start, start +
+     * length).
+     */
+    record Cycle(long[] tail, long start, long length, long[] offsets) {
+        /**
+         * The cycle with the shortest length its hits repeat with, which can be much shorter than the walk's own
+         * cycle: a walk round a ring that passes a target every so many steps hits it in step with the ring, not with
+         * the instructions. Fewer offsets keep the combinations of offsets across walks few.
+         */
+        static Cycle shortest(long[] tail, long start, long length, long[] offsets) {
+            var divisors = LongStream.rangeClosed(1, AocUtils.isqrt(length))
+                                     .filter(d -> length % d == 0)
+                                     .flatMap(d -> LongStream.of(d, length / d))
+                                     .distinct()
+                                     .sorted()
+                                     .toArray();
+
+            for (long period : divisors) {
+                long times = length / period;
+
+                if (offsets.length > 0 && offsets.length % times == 0 && repeats(start, length, offsets, period)) {
+                    return new Cycle(tail, start, period, Arrays.copyOf(offsets, (int) (offsets.length / times)));
+                }
+            }
+
+            return new Cycle(tail, start, length, offsets);
+        }
+
+        private static boolean repeats(long start, long length, long[] offsets, long period) {
+            for (long offset : offsets) {
+                if (Arrays.binarySearch(offsets, start + (offset - start + period) % length) < 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        boolean hits(long step) {
+            if (step < start) {
+                return Arrays.binarySearch(tail, step) >= 0;
+            }
+
+            return Arrays.binarySearch(offsets, start + (step - start) % length) >= 0;
+        }
+    }
+
+    /**
+     * Steps every ghost together, one instruction at a time over an int array of their nodes, until all of them are
+     * on a target at once: the brute force that assumes nothing about the network. The ghosts are split into chunks
+     * that take BATCH steps at a time in parallel, each setting a bit for every step at which all of its own ghosts
+     * are on targets; the first bit set for every chunk is the answer. Its steps, steps per second and the time
+     * left until its limit can be read from any thread while it runs. With -Dday08.progress it reports them as it
+     * goes, and with -Dinstrument.counters its steps count as SIMULATED_STEPS.
+     */
+    static final class Simulation {
+        private static final int BATCH = 1 << 14;
+
+        private final Network network;
+        private final boolean[] targets;
+        // the nodes of the ghosts in every chunk
+        private final int[][] chunks;
+        private final long[][] allOnTargets;
+        private final long started = System.nanoTime();
+        private volatile long steps;
+        private volatile long limit = Long.MAX_VALUE;
+
+        Simulation(Network network, int[] starts, IntPredicate target, int parallelism) {
+            if (starts.length == 0) {
+                throw new IllegalArgumentException("No ghosts to simulate");
+            }
+
+            this.network = network;
+            this.targets = new boolean[network.size()];
+            this.chunks = new int[Math.min(Math.max(1, parallelism), starts.length)][];
+            this.allOnTargets = new long[chunks.length][BATCH / Long.SIZE];
+
+            for (int n = 0; n < targets.length; n++) {
+                targets[n] = target.test(n);
+            }
+
+            for (int c = 0; c < chunks.length; c++) {
+                chunks[c] = Arrays.copyOfRange(starts, c * starts.length / chunks.length,
+                        (c + 1) * starts.length / chunks.length);
+            }
+        }
+
+        /**
+         * The first step at which every ghost is on a target, or -1 if there is none before the limit. A simulation
+         * runs only once.
+         */
+        long run(long limit) {
+            this.limit = limit;
+            long nextReport = started + PROGRESS_SECONDS * 1_000_000_000;
+
+            while (steps < limit) {
+                long from = steps;
+                int batch = (int) Math.min(BATCH, limit - from);
+
+                if (chunks.length == 1) {
+                    advance(0, from, batch);
+                } else {
+                    IntStream.range(0, chunks.length).parallel().forEach(chunk -> advance(chunk, from, batch));
+                }
+
+                for (int word = 0; word < (batch + Long.SIZE - 1) / Long.SIZE; word++) {
+                    long all = -1;
+
+                    for (var chunk : allOnTargets) {
+                        all &= chunk[word];
+                    }
+
+                    if (all != 0) {
+                        steps = from + (long) word * Long.SIZE + Long.numberOfTrailingZeros(all);
+                        return steps;
+                    }
+                }
+
+                steps = from + batch;
+                Instrumentation.Counter.SIMULATED_STEPS.add(batch);
+
+                if (PROGRESS_SECONDS > 0 && System.nanoTime() >= nextReport) {
+                    System.err.printf("Day08: %,d of at most %,d steps, %.1f M steps/s, at most %s left%n", steps,
+                            limit, stepsPerSecond() / 1e6, duration(secondsLeft()));
+                    nextReport += PROGRESS_SECONDS * 1_000_000_000;
+                }
+            }
+
+            return -1;
+        }
+
+        private void advance(int chunk, long from, int batch) {
+            var nodes = chunks[chunk];
+            var bits = allOnTargets[chunk];
+            int instruction = (int) (from % network.runLength());
+            Arrays.fill(bits, 0);
+
+            for (int i = 0; i < batch; i++) {
+                boolean all = true;
+
+                for (int g = 0; g < nodes.length; g++) {
+                    all &= targets[nodes[g]];
+                    nodes[g] = network.step(nodes[g], instruction);
+                }
+
+                if (all) {
+                    bits[i >>> 6] |= 1L << i;
+                }
+
+                if (++instruction == network.runLength()) {
+                    instruction = 0;
+                }
+            }
+        }
+
+        long steps() {
+            return steps;
+        }
+
+        long limit() {
+            return limit;
+        }
+
+        double stepsPerSecond() {
+            return steps / ((System.nanoTime() - started) / 1e9);
+        }
+
+        /**
+         * The seconds until the limit at the rate so far, infinite before the first batch: an upper bound, as the
+         * ghosts may meet sooner.
+         */
+        double secondsLeft() {
+            return (limit - steps) / stepsPerSecond();
+        }
+
+        private static String duration(double seconds) {
+            if (!Double.isFinite(seconds)) {
+                return "an unknown time";
+            }
+
+            long s = (long) seconds;
 
-    private static List<Instruction> parseInstructions(String input) {
-        var line = input.lines().findFirst().orElseThrow();
-        return line.chars().mapToObj(c -> c == 'L' ? Instruction.L : Instruction.R).toList();
+            if (s < 3600) {
+                return String.format("%d min %d s", s / 60, s % 60);
+            }
+
+            if (s < 2 * 86400) {
+                return String.format("%d h %d min", s / 3600, s / 60 % 60);
+            }
+
+            return String.format("%,d days", s / 86400);
+        }
     }
 
-    private record Network(Map<String, String> left, Map<String, String> right) {}
+    // L and R, as indexes into Network.successors
+    private static final int LEFT = 0;
+    private static final int RIGHT = 1;
+
+    private static byte[] parseInstructions(String line) {
+        var instructions = new byte[line.length()];
 
-    private static Network parseNetwork(String input) {
-        var left = input.lines().skip(2).collect(Collectors.toMap(l -> l.substring(0, 3), l -> l.substring(7, 10)));
-        var right = input.lines().skip(2).collect(Collectors.toMap(l -> l.substring(0, 3), l -> l.substring(12, 15)));
-        return new Network(left, right);
+        for (int i = 0; i < instructions.length; i++) {
+            instructions[i] = (byte) (line.charAt(i) == 'L' ? LEFT : RIGHT);
+        }
+
+        return instructions;
     }
 
-    private static long repetitions(List<Instruction> instructions, Network network, String node) {
-        var repetitions = 0;
+    record Document(byte[] instructions, Network network) {}
+
+    /**
+     * The network compiled into arrays over its nodes, numbered in the order they are listed. Node names are looked up
+     * by their three letters or digits read as a base-36 number, which fits in 16 bits. Long walks go by jump tables
+     * of where every node is after 2^k whole runs of the instructions, built on the first walk and as far as walks
+     * need: filling the first one takes a run from every node.
+     */
+    static final class Network {
+        private static final int NAME_IDS = 36 * 36 * 36;
+
+        private final String[] names;
+        // node number + 1 by name id, 0 for no node
+        private final int[] numbers;
+        private final int[][] successors;
+        private final byte[] instructions;
+        private final List<int[]> jumps = new ArrayList<>();
+
+        Network(List<String> lines, byte[] instructions) {
+            this.names = new String[lines.size()];
+            this.numbers = new int[NAME_IDS];
+            this.successors = new int[2][lines.size()];
+            this.instructions = instructions;
+
+            for (int n = 0; n < names.length; n++) {
+                names[n] = lines.get(n).substring(0, 3);
+
+                if (numbers[nameId(names[n])] != 0) {
+                    throw new IllegalArgumentException("Node listed twice: " + names[n]);
+                }
+
+                numbers[nameId(names[n])] = n + 1;
+            }
+
+            for (int n = 0; n < names.length; n++) {
+                successors[LEFT][n] = node(lines.get(n).substring(7, 10));
+                successors[RIGHT][n] = node(lines.get(n).substring(12, 15));
+            }
+        }
+
+        private static int nameId(String name) {
+            int id = 0;
+
+            for (int i = 0; i < 3; i++) {
+                int digit = Character.digit(name.charAt(i), 36);
+
+                if (digit < 0) {
+                    throw new IllegalArgumentException("Not a node name: " + name);
+                }
 
-        while (!node.endsWith("Z")) {
-            for (Instruction instruction : instructions) {
-                node = (instruction == Instruction.L) ? network.left().get(node) : network.right().get(node);
+                id = id * 36 + digit;
             }
 
-            repetitions++;
+            return id;
         }
 
-        return repetitions;
+        int size() {
+            return names.length;
+        }
+
+        int node(String name) {
+            int node = numbers[nameId(name)] - 1;
+
+            if (node < 0) {
+                throw new IllegalArgumentException("No such node: " + name);
+            }
+
+            return node;
+        }
+
+        String name(int node) {
+            return names[node];
+        }
+
+        boolean isStart(int node) {
+            return names[node].charAt(2) == 'A';
+        }
+
+        boolean isEnd(int node) {
+            return names[node].charAt(2) == 'Z';
+        }
+
+        /**
+         * The number of instructions, which is the number of steps in a run of them.
+         */
+        int runLength() {
+            return instructions.length;
+        }
+
+        /**
+         * The node the instruction with the given index leads to from the given node.
+         */
+        int step(int node, int instruction) {
+            return successors[instructions[instruction]][node];
+        }
+
+        /**
+         * The first step at which the walk from the start is on a target node. It stops, like {@link #cycle}, once
+         * it begins a run of the instructions on a node it began one on before.
+         */
+        long firstHit(int start, IntPredicate target) {
+            var runStarted = new boolean[names.length];
+            int node = start;
+            long step = 0;
+
+            while (!runStarted[node]) {
+                runStarted[node] = true;
+
+                for (byte instruction : instructions) {
+                    if (target.test(node)) {
+                        return step;
+                    }
+
+                    node = successors[instruction][node];
+                    step++;
+                }
+            }
+
+            throw new IllegalStateException("No target is ever reached from " + names[start]);
+        }
+
+        /**
+         * Where the walk from the start is on a target node. A walk's state is its node and its place in the
+         * instructions, so it repeats as soon as the walk begins a run of the instructions on a node it began an
+         * earlier run on; from that earlier run on, it goes round the same cycle of runs forever. That takes at most
+         * as many runs as there are nodes.
+         */
+        Cycle cycle(int start, IntPredicate target) {
+            var runStarted = new int[names.length];
+            var targets = new boolean[names.length];
+            var hits = new long[16];
+            int count = 0;
+
+            for (int n = 0; n < targets.length; n++) {
+                targets[n] = target.test(n);
+            }
+
+            int node = start;
+            long step = 0;
+
+            // run numbers + 1, so that 0 is a node no run began on yet
+            for (int run = 1; runStarted[node] == 0; run++) {
+                runStarted[node] = run;
+
+                for (byte instruction : instructions) {
+                    if (targets[node]) {
+                        if (count == hits.length) {
+                            hits = Arrays.copyOf(hits, 2 * count);
+                        }
+
+                        hits[count++] = step;
+                    }
+
+                    node = successors[instruction][node];
+                    step++;
+                }
+            }
+
+            long cycleStart = (long) (runStarted[node] - 1) * instructions.length;
+            int tail = 0;
+
+            while (tail < count && hits[tail] < cycleStart) {
+                tail++;
+            }
+
+            return Cycle.shortest(Arrays.copyOf(hits, tail), cycleStart, step - cycleStart,
+                    Arrays.copyOfRange(hits, tail, count));
+        }
+
+        /**
+         * The node reached from the given one after the given number of steps, in as many table lookups as the number of
+         * runs has bits, plus the steps of the last, partial run.
+         */
+        int walk(int node, long steps) {
+            long runs = steps / instructions.length;
+
+            for (int k = 0; runs != 0; k++, runs >>>= 1) {
+                if ((runs & 1) != 0) {
+                    node = jump(k)[node];
+                }
+            }
+
+            for (int i = 0; i < steps % instructions.length; i++) {
+                node = step(node, i);
+            }
+
+            return node;
+        }
+
+        /**
+         * The node reached from the given one after the given number of steps, one instruction at a time: what walk
+         * saves.
+         */
+        int stepByStep(int node, long steps) {
+            int instruction = 0;
+
+            for (long i = 0; i < steps; i++) {
+                node = successors[instructions[instruction]][node];
+
+                if (++instruction == instructions.length) {
+                    instruction = 0;
+                }
+            }
+
+            return node;
+        }
+
+        // where every node is after 2^k runs
+        private synchronized int[] jump(int k) {
+            if (jumps.isEmpty()) {
+                var run = new int[names.length];
+
+                for (int n = 0; n < run.length; n++) {
+                    int node = n;
+
+                    for (byte instruction : instructions) {
+                        node = successors[instruction][node];
+                    }
+
+                    run[n] = node;
+                }
+
+                jumps.add(run);
+            }
+
+            while (jumps.size() <= k) {
+                var half = jumps.getLast();
+                var jump = new int[half.length];
+
+                for (int n = 0; n < jump.length; n++) {
+                    jump[n] = half[half[n]];
+                }
+
+                jumps.add(jump);
+            }
+
+            return jumps.get(k);
+        }
     }
 
-    private static final String TESTINPUT = """
+    static final String TESTINPUT = """
             LLR
                         
             AAA = (BBB, BBB)
             BBB = (AAA, ZZZ)
             ZZZ = (ZZZ, ZZZ)""";
 
-    private static final String TESTINPUT2 = """
+    static final String TESTINPUT2 = """
             LR
                         
             11A = (11B, XXX)
@@ -75,7 +606,7 @@ public class Day08 {
             22Z = (22B, 22B)
             XXX = (XXX, XXX)""";
 
-    private static final String INPUT = """
+    static final String INPUT = """
             LRRLLRLLRRLRRLLRRLLRLRRRLLRRLRRRLRRLRRRLLRRLLRLLRRLRLRRRLRRLLRRRLRLRRLRRLRLRLRLLRLRRRLLRLLRRLRRRLRLRLRRRLRRLLRRRLRLRRLRRLLRRLRRRLRRLRRLRRLLRLRLRRLLRLLRRRLRRLRRLRRRLRLLRRRLRRRLRRLLRRRLRRRLRLLRLRRLRLLRRLLLRRLRRLRRLRLRRRLRRLLRLRRRLRRLRLLLRRLRRLRRRLLLRLLLLRRLRLLLRLRRRLRRRLRLRRRLLLLRLRRRLRLLLRRLRLRRLRRLRRRLRRRR
                         
             LHF = (QTF, KKT)
@@ -4,36 +4,32 @@ import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 public class Day09 {
+    static final Solver<List<long[]>> SOLVER = Solver.of(Day09::parse, Day09::partI, Day09::partII);
+
     public static void main(String... args) {
-        partI(TEST_INPUT);
-        partI(INPUT);
+        System.out.println("Part I: " + partI(parse(TEST_INPUT)));
+        System.out.println("Part I: " + partI(parse(INPUT)));
 
-        partII(TEST_INPUT);
-        partII(INPUT);
+        System.out.println("Part II: " + partII(parse(TEST_INPUT)));
+        System.out.println("Part II: " + partII(parse(INPUT)));
     }
 
-    private static void partI(String input) {
-        long total = parse(input)
-                .stream()
-                .map(Day09::extrapolate)
-                .mapToLong(array -> array[array.length - 1])
-                .sum();
-
-        System.out.println("Part I: " + total);
+    static long partI(List<long[]> histories) {
+        return histories.stream()
+                        .map(Day09::extrapolate)
+                        .mapToLong(array -> array[array.length - 1])
+                        .sum();
     }
 
-    private static void partII(String input) {
-        long total = parse(input)
-                .stream()
-                .map(Day09::reverse)
-                .map(Day09::extrapolate)
-                .mapToLong(array -> array[array.length - 1])
-                .sum();
-
-        System.out.println("Part II: " + total);
+    static long partII(List<long[]> histories) {
+        return histories.stream()
+                        .map(Day09::reverse)
+                        .map(Day09::extrapolate)
+                        .mapToLong(array -> array[array.length - 1])
+                        .sum();
     }
 
-    private static List<long[]> parse(String input) {
+    static List<long[]> parse(String input) {
         return input.lines()
                     .map(line -> Stream.of(line.split(" "))
                                        .mapToLong(Long::parseLong)
@@ -81,12 +77,12 @@ public class Day09 {
         return reversed;
     }
 
-    private static final String TEST_INPUT = """
+    static final String TEST_INPUT = """
             0 3 6 9 12 15
             1 3 6 10 15 21
             10 13 16 21 30 45""";
 
-    private static final String INPUT = """
+    static final String INPUT = """
             3 -3 -6 11 81 262 654 1429 2882 5527 10296 18955 34930 64825 120957 225074 412708 735639 1255391 2011191 2927270
             13 14 15 16 17 18 19 20 21 22 23 24 25 26 27 28 29 30 31 32 33
             18 44 80 138 241 419 713 1199 2046 3624 6680 12602 23793 44179 79877 140051 237986 392412 629112 982850 1499657
@@ -1,147 +1,137 @@
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Stream;
 
 public class Day10 {
+    static final Solver<Sketch> SOLVER = Solver.of(Day10::parse, Day10::partI, Day10::partII);
+
     public static void main(String... args) {
         for (String input : List.of(TEST_INPUT, TEST_INPUT2, INPUT)) {
             Sketch sketch = parse(input);
-            var loop = sketch.findLoop();
-            var output1 = (loop.size() + 1) / 2;
-            System.out.println("Part I: " + output1);
-
-            var output2 = sketch.closeLoop(loop).findArea(loop);
-            System.out.println("Part II: " + output2);
+            System.out.println("Part I: " + partI(sketch));
+            System.out.println("Part II: " + partII(sketch));
         }
     }
 
+    static long partI(Sketch sketch) {
+        return (sketch.findLoop().length + 1) / 2;
+    }
+
+    static long partII(Sketch sketch) {
+        var loop = sketch.findLoop();
+        return sketch.closeLoop(loop).findArea(loop);
+    }
+
     static Sketch parse(String input) {
-        var map = new HashMap<Pos, Tile>();
-        Pos startPos = null;
-        var lines = input.lines().toList();
-
-        for (int y = 0; y < lines.size(); y++) {
-            for (int x = 0; x < lines.get(y).length(); x++) {
-                Tile tile = switch (lines.get(y).charAt(x)) {
-                    case '|' -> Tile.NS;
-                    case '-' -> Tile.EW;
-                    case 'L' -> Tile.NE;
-                    case 'J' -> Tile.NW;
-                    case '7' -> Tile.SW;
-                    case 'F' -> Tile.SE;
-                    case '.' -> Tile.G;
-                    case 'S' -> Tile.S;
-                    default -> throw new RuntimeException();
-                };
-
-                Pos pos = new Pos(x, y);
-                map.put(pos, tile);
-
-                if (tile == Tile.S) {
-                    startPos = pos;
+        var grid = Grid.parse(input);
+
+        for (int y = 0; y < grid.height(); y++) {
+            for (int x = 0; x < grid.width(); x++) {
+                if (TILES.indexOf(grid.get(x, y)) < 0) {
+                    throw new IllegalArgumentException("Not a tile: " + (char) grid.get(x, y));
                 }
             }
         }
 
-        return new Sketch(map, startPos);
+        grid = grid.padded((byte) '.');
+        return new Sketch(grid, grid.indexOf((byte) 'S'));
     }
 
-    record Sketch(Map<Pos, Tile> tiles, Pos startPos) {
-        List<Pos> findLoop() {
-            var loop = new ArrayList<Pos>();
-            var pos = startPos;
+    static final String PIPES = "|-LJ7F";
+    static final String TILES = PIPES + ".S";
+
+    // the exits of each pipe in PIPES, as bits of Direction ordinals
+    private static final int[] EXITS = {0b0101, 0b1010, 0b0011, 0b1001, 0b1100, 0b0110};
+
+    static int exits(byte tile) {
+        return tile == 'S' ? 0b1111 : tile == '.' ? 0 : EXITS[PIPES.indexOf(tile)];
+    }
+
+    static byte pipe(int exits) {
+        for (int i = 0; i < EXITS.length; i++) {
+            if (EXITS[i] == exits) {
+                return (byte) PIPES.charAt(i);
+            }
+        }
+
+        throw new IllegalArgumentException("No pipe has exits " + Integer.toBinaryString(exits));
+    }
+
+    static boolean hasExit(byte tile, Direction dir) {
+        return (exits(tile) & 1 << dir.ordinal()) != 0;
+    }
+
+    /**
+     * A sketch of the pipes, padded with ground so that every tile of the sketch has four neighbors.
+     */
+    record Sketch(Grid grid, int start) {
+        int[] findLoop() {
+            var offsets = grid.neighborOffsets();
+            var loop = new int[16];
+            int length = 0;
+            int pos = start;
             Direction back = null;
 
             do {
                 for (Direction forward : Direction.values()) {
-                    if (forward != back && tiles.get(pos).hasExit(forward)) {
-                        Pos nextPos = pos.move(forward);
+                    if (forward != back && hasExit(grid.get(pos), forward)) {
+                        int nextPos = pos + offsets[forward.ordinal()];
+
+                        if (hasExit(grid.get(nextPos), forward.opposite())) {
+                            if (length == loop.length) {
+                                loop = Arrays.copyOf(loop, 2 * length);
+                            }
 
-                        if (tiles.containsKey(nextPos) && tiles.get(nextPos).hasExit(forward.opposite())) {
-                            loop.add(pos);
+                            loop[length++] = pos;
                             pos = nextPos;
                             back = forward.opposite();
                             break;
                         }
                     }
                 }
-            } while (!pos.equals(startPos));
-
-            return loop;
-        }
+            } while (pos != start);
 
-        Sketch closeLoop(List<Pos> loop) {
-            var pre = loop.get(loop.size() - 1);
-            var suc = loop.get(1);
-            var preDir = Stream.of(Direction.values()).filter(d -> startPos.move(d).equals(pre)).findFirst().orElseThrow();
-            var sucDir = Stream.of(Direction.values()).filter(d -> startPos.move(d).equals(suc)).findFirst().orElseThrow();
-            var map = new HashMap<>(tiles);
-            map.put(startPos, Tile.find(preDir, sucDir));
-            return new Sketch(map, startPos);
+            return Arrays.copyOf(loop, length);
         }
 
-        long findArea(List<Pos> loop) {
-            var loopPositions = new HashSet<>(loop);
+        Sketch closeLoop(int[] loop) {
+            var offsets = grid.neighborOffsets();
+            int exits = 0;
 
-            return tiles.keySet()
-                        .stream()
-                        .filter(pos -> !loopPositions.contains(pos))
-                        .filter(pos -> crossingsNorth(loopPositions, pos) % 2 == 1)
-                        .count();
-        }
-
-        int crossingsNorth(Set<Pos> loopPositions, Pos pos) {
-            var crossings = 0;
+            for (var dir : Direction.values()) {
+                int neighbor = start + offsets[dir.ordinal()];
 
-            while (pos.y > 0) {
-                pos = pos.move(Direction.N);
-
-                if (loopPositions.contains(pos) && tiles.get(pos).hasExit(Direction.E)) {
-                    crossings++;
+                if (neighbor == loop[loop.length - 1] || neighbor == loop[1]) {
+                    exits |= 1 << dir.ordinal();
                 }
             }
 
-            return crossings;
+            var closed = grid.copy();
+            closed.set(start, pipe(exits));
+            return new Sketch(closed, start);
         }
-    }
 
-    enum Tile {
-        NS, EW, NE, NW, SW, SE, G, S;
+        // a tile is inside the loop when a line from it to the west edge crosses the loop an odd number of times
+        long findArea(int[] loop) {
+            var onLoop = new boolean[grid.size()];
+            long area = 0;
 
-        static Tile find(Direction exit1, Direction exit2) {
-            return Stream.of(values())
-                         .filter(t -> t != S)
-                         .filter(t -> t.hasExit(exit1) && t.hasExit(exit2))
-                         .findFirst()
-                         .orElseThrow();
-        }
+            for (int pos : loop) {
+                onLoop[pos] = true;
+            }
 
-        boolean hasExit(Direction n) {
-            return switch (this) {
-                case NS -> List.of(Direction.N, Direction.S).contains(n);
-                case EW -> List.of(Direction.E, Direction.W).contains(n);
-                case NE -> List.of(Direction.N, Direction.E).contains(n);
-                case NW -> List.of(Direction.N, Direction.W).contains(n);
-                case SW -> List.of(Direction.S, Direction.W).contains(n);
-                case SE -> List.of(Direction.S, Direction.E).contains(n);
-                case G -> false;
-                case S -> true;
-            };
-        }
-    }
+            for (int y = 0; y < grid.height(); y++) {
+                boolean inside = false;
+
+                for (int pos = grid.index(0, y); pos < grid.index(grid.width(), y); pos++) {
+                    if (onLoop[pos]) {
+                        inside ^= hasExit(grid.get(pos), Direction.N);
+                    } else if (inside) {
+                        area++;
+                    }
+                }
+            }
 
-    record Pos(int x, int y) {
-        Pos move(Direction dir) {
-            return switch (dir) {
-                case N -> new Pos(x, y - 1);
-                case E -> new Pos(x + 1, y);
-                case S -> new Pos(x, y + 1);
-                case W -> new Pos(x - 1, y);
-            };
+            return area;
         }
     }
 
@@ -149,17 +139,12 @@ public class Day10 {
         N, E, S, W;
 
         Direction opposite() {
-            return switch (this) {
-                case N -> S;
-                case E -> W;
-                case S -> N;
-                case W -> E;
-            };
+            return values()[(ordinal() + 2) % 4];
         }
     }
 
     @SuppressWarnings("unused")
-    private static final String TEST_INPUT = """
+    static final String TEST_INPUT = """
             7-F7-
             .FJ|7
             SJLL7
@@ -167,7 +152,7 @@ public class Day10 {
             LJ.LJ""";
 
     @SuppressWarnings("unused")
-    private static final String TEST_INPUT2 = """
+    static final String TEST_INPUT2 = """
             FF7FSF7F7F7F7F7F---7
             L|LJ||||||||||||F--J
             FL-7LJLJ||||||LJL-77
@@ -179,7 +164,7 @@ public class Day10 {
             L.L7LFJ|||||FJL7||LJ
             L7JLJL-JLJLJL--JLJ.L""";
 
-    private static final String INPUT = """
+    static final String INPUT = """
             L77FF.FJF|FL-7F7FF-F7F7FL.|.F-77.F--|.J7.FFLL--|7-7.7-L77F7-7.F-7F7-FF7F|77.|-JF7-FFF.L-7FFF7---|F7.|.FLF-JF-|-7---|F77FF-F-77FL77|-77.|-J.F
             L7F-|7LLFJFL-FJ7L|.FL.LJJF7.|.|L-FJFJJ7L.777L-7.F7F-|7.F-7L7-F7LF-7.|L-JJF7-J-L7|F-JJFJLJ-L||.|LL|JF7-7FJ-FJ.J.J.|FLLJ7-F-L-L|7LJ-7-JL7F7|FJ
             FF7|.-7F|J-|.|LFJJL-J7|.7FJ7L-77JLJJJ7F77JLJ77|-F--FJ.-JLL-J.LJJ.L|--7.J-JJ.|-F----LL-7FJJF||F--7F-7.F-7.L7-|.-LL-77JFJ.J7F-JL|.||L.FF||JLJ|
@@ -7,19 +7,32 @@ import java.util.function.ToIntFunction;
 public class Day11 {
     record Galaxy(int x, int y) {}
 
+    static final Solver<List<Galaxy>> SOLVER = Solver.of(Day11::parse, Day11::partI, Day11::partII);
+
     public static void main(String... args) {
         for (String input : List.of(TEST_INPUT, INPUT)) {
             var galaxies = parse(input);
 
             for (long weight : List.of(2, 10, 1_000_000)) {
-                var xMapping = mapping(galaxies, g -> g.x, weight);
-                var yMapping = mapping(galaxies, g -> g.y, weight);
-                var total = totalDistance(galaxies, xMapping, yMapping);
-                System.out.println(weight + ": " + total);
+                System.out.println(weight + ": " + totalDistance(galaxies, weight));
             }
         }
     }
 
+    static long partI(List<Galaxy> galaxies) {
+        return totalDistance(galaxies, 2);
+    }
+
+    static long partII(List<Galaxy> galaxies) {
+        return totalDistance(galaxies, 1_000_000);
+    }
+
+    static long totalDistance(List<Galaxy> galaxies, long weight) {
+        var xMapping = mapping(galaxies, g -> g.x, weight);
+        var yMapping = mapping(galaxies, g -> g.y, weight);
+        return totalDistance(galaxies, xMapping, yMapping);
+    }
+
     static List<Galaxy> parse(String input) {
         List<Galaxy> galaxies = new ArrayList<>();
         List<String> lines = input.lines().toList();
@@ -62,7 +75,7 @@ public class Day11 {
         return total;
     }
 
-    private static final String TEST_INPUT = """
+    static final String TEST_INPUT = """
             ...#......
             .......#..
             #.........
@@ -74,7 +87,7 @@ public class Day11 {
             .......#..
             #...#.....""";
 
-    private static final String INPUT = """
+    static final String INPUT = """
             ..........................#.........................#........................................................#..............................
             .............#.....................................................#.........#......................#.......................................
             ..................................#....................................................................................#...........#........
@@ -5,15 +5,29 @@ import java.util.Map;
 import java.util.stream.Stream;
 
 public class Day12 {
+    static final Solver<List<Line>> SOLVER = Solver.of(Day12::parse, Day12::partI, Day12::partII);
+
     public static void main(String... args) {
         for (String input : List.of(TEST_INPUT, INPUT)) {
-            var lines = input.lines().map(Day12::parse).toList();
-            System.out.println(lines.stream().mapToLong(parsed -> count(parsed.bookEnd(), new HashMap<>())).sum());
-            System.out.println(lines.stream().mapToLong(parsed -> count(parsed.unfold().bookEnd(), new HashMap<>())).sum());
+            var lines = parse(input);
+            System.out.println(partI(lines));
+            System.out.println(partII(lines));
         }
     }
 
-    static Line parse(String line) {
+    static List<Line> parse(String input) {
+        return input.lines().map(Day12::parseLine).toList();
+    }
+
+    static long partI(List<Line> lines) {
+        return lines.stream().mapToLong(line -> count(line.bookEnd(), new HashMap<>())).sum();
+    }
+
+    static long partII(List<Line> lines) {
+        return lines.stream().mapToLong(line -> count(line.unfold().bookEnd(), new HashMap<>())).sum();
+    }
+
+    static Line parseLine(String line) {
         String[] parts = line.split(" ");
 
         List<Spring> springs = parts[0]
@@ -112,7 +126,7 @@ public class Day12 {
         }
     }
 
-    private static final String TEST_INPUT = """
+    static final String TEST_INPUT = """
             ???.### 1,1,3
             .??..??...?##. 1,1,3
             ?#?#?#?#?#?#?#? 1,3,1,6
@@ -120,7 +134,7 @@ public class Day12 {
             ????.######..#####. 1,6,5
             ?###???????? 3,2,1""";
 
-    private static final String INPUT = """
+    static final String INPUT = """
             ??.???.#?? 1,1,2
             .?.#??.?##?? 3,4
             ??..###??##??.?.??? 1,9,2
@@ -4,27 +4,31 @@ import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 public class Day13 {
+    static final Solver<List<Pattern>> SOLVER = Solver.of(Day13::parse, Day13::partI, Day13::partII);
+
     public static void main(String... args) {
         for (String input : List.of(TEST_INPUT, INPUT)) {
             var patterns = parse(input);
+            System.out.println("Part I: " + partI(patterns));
+            System.out.println("Part II: " + partII(patterns));
+        }
+    }
 
-            var partI = patterns
-                    .stream()
-                    .mapToInt(pattern -> pattern.findReflection() * 100 + pattern.transpose().findReflection())
-                    .sum();
-
-            System.out.println("Part I: " + partI);
-
-            var partII = patterns
-                    .stream()
-                    .mapToInt(pattern -> pattern.findSmudgedReflection() * 100 + pattern.transpose().findSmudgedReflection())
-                    .sum();
+    static int partI(List<Pattern> patterns) {
+        return patterns
+                .stream()
+                .mapToInt(pattern -> pattern.findReflection() * 100 + pattern.transpose().findReflection())
+                .sum();
+    }
 
-            System.out.println("Part II: " + partII);
-        }
+    static int partII(List<Pattern> patterns) {
+        return patterns
+                .stream()
+                .mapToInt(pattern -> pattern.findSmudgedReflection() * 100 + pattern.transpose().findSmudgedReflection())
+                .sum();
     }
 
-    private static List<Pattern> parse(String input) {
+    static List<Pattern> parse(String input) {
         return Stream.of(input.split("\n\n"))
                      .map(grid -> grid.lines()
                                       .map(line -> line.chars()
@@ -81,7 +85,7 @@ public class Day13 {
 
     enum Cell {ASH, ROCK}
 
-    private static final String TEST_INPUT = """
+    static final String TEST_INPUT = """
             #.##..##.
             ..#.##.#.
             ##......#
@@ -98,7 +102,7 @@ public class Day13 {
             ..##..###
             #....#..#""";
 
-    private static final String INPUT = """
+    static final String INPUT = """
             ###.#.###
             .#..####.
             .##.#.#..
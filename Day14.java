@@ -5,19 +5,27 @@ import java.util.Map.Entry;
 import java.util.stream.Collectors;
 
 public class Day14 {
+    static final long SPIN_CYCLES = 1_000_000_000;
+
+    static final Solver<String> SOLVER = Solver.of(input -> input, Day14::partI, Day14::partII);
+
     public static void main(String... args) {
         for (var input : List.of(TEST_INPUT, INPUT)) {
-            partI(input);
-            partII(input);
+            System.out.println("Part I: " + partI(input));
+            System.out.println("Part II: " + partII(input));
         }
     }
 
-    private static void partI(String state) {
-        System.out.println("Part I: " + measure(tilt(state)));
+    static long partI(String state) {
+        return measure(tilt(state));
     }
 
-    private static void partII(String state) {
-        long totalSpinCycles = 1_000_000_000;
+    static long partII(String state) {
+        return Cache.value("Day14", "partII", state, String.valueOf(SPIN_CYCLES),
+                () -> measure(spinCycles(state, SPIN_CYCLES)));
+    }
+
+    static String spinCycles(String state, long totalSpinCycles) {
         var stateToCycle = new HashMap<String, Long>();
 
         for (long spinCycle = 1; spinCycle <= totalSpinCycles; spinCycle++) {
@@ -44,7 +52,7 @@ public class Day14 {
             }
         }
 
-        System.out.println("Part II: " + measure(state));
+        return state;
     }
 
     static String spin(String state) {
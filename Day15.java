@@ -3,19 +3,25 @@ import java.util.List;
 import java.util.stream.Stream;
 
 public class Day15 {
+    static final Solver<String[]> SOLVER = Solver.of(Day15::parse, Day15::partI, Day15::partII);
+
     public static void main(String... args) {
         for (String input : List.of(TEST_INPUT, INPUT)) {
-            var ops = input.split(",");
+            var ops = parse(input);
             System.out.println("Part I: " + partI(ops));
             System.out.println("Part II: " + partII(ops));
         }
     }
 
-    private static long partI(String[] ops) {
+    static String[] parse(String input) {
+        return input.split(",");
+    }
+
+    static long partI(String[] ops) {
         return Stream.of(ops).mapToLong(Day15::hash).sum();
     }
 
-    private static long partII(String[] ops) {
+    static long partII(String[] ops) {
         record Lens(String label, int length) {}
         var boxes = Stream.generate(ArrayList<Lens>::new).limit(256).toList();
 
@@ -56,9 +62,9 @@ public class Day15 {
         return currentValue;
     }
 
-    private static final String TEST_INPUT = """
+    static final String TEST_INPUT = """
             rn=1,cm-,qp=3,cm=2,qp-,pc=4,ot=9,ab=5,pc-,pc=6,ot=7""";
 
-    private static final String INPUT = """
+    static final String INPUT = """
             sbckcf-,svx-,jh-,hfx=2,xnd-,cx-,zd=6,hm-,bgf-,lkn-,sgpz-,mjgk=2,zcq=1,rjv=3,kq-,bhqn-,hlz-,nk-,rzg-,nj-,dtv=4,jqp=6,sj=6,df=7,zb=5,hvpnx-,rd=9,hzv=7,nkk-,dzkdph-,jqp=6,dtv-,pff=4,cx-,sbt=3,bxgklq=9,kbj=5,vf=5,mznnc=2,xt-,rzx=3,xt-,sm-,gc=1,trx-,jc=5,fgb=4,lc-,cs=3,vbn-,pp=8,ng=5,tbb-,rjtt=9,nj=9,vnfq=6,zq-,qcr=7,zh=6,sjv-,pl=6,ccr-,hlfg-,xmf=1,tsmm=8,ctsf=4,gst=1,pp-,kck-,rmm=5,dzs-,xt=7,kcg=3,tt-,nr-,rlsb=7,sqdb-,zjxhp=2,bnc=2,crn-,fsfgj=9,vdtv=8,rx-,lq-,tgzqhz=9,xp-,hdvm=4,zs=9,xtx-,kjm-,mjgk=3,qlj-,pfffk=3,bgr=6,ffp-,vgqks-,lmn-,fxf=8,tlrdb-,cbqn-,bnnl=6,cv=5,nj=9,xtx-,cxdvn-,tkn=3,zfr=7,qc=8,fgbmr-,bpkl-,pp-,nnkn-,qdjqqj=2,gbn=7,tjvtx=7,rzg=1,gqp=1,sldvr-,lc=4,ms=1,pg-,dz-,vq-,rz=6,ld-,fzrg=7,cqc-,pxrt-,tbb=8,rzx=5,kqfx-,phfg-,nhf=7,zf=6,bxgklq-,nhf-,nmf-,csk=8,ktxv-,mhtb-,qdjqqj=2,njgnjr=2,ggs-,dp=7,bjqhkv=6,js=1,nmf-,ll=4,fj-,tt-,cjm-,dz=6,rfhzp-,gqp=4,bgt=6,rfl=8,hvch=2,kmq-,pqvj-,nks=1,gvgk=2,bggz-,cpmp=1,td=2,rh=6,xzs=6,lq-,qk-,bxgklq-,xtr=8,kq=9,qx=7,pjds=1,sqdb=9,pjkdk=1,kkh-,kstj=4,bdh-,vbn-,cpxnh=9,tsvb=8,rh-,pl=6,qzl-,gq=4,tn-,ckv=1,nppt-,smmfv-,nkk=7,cfn=5,tl=7,zr-,bq-,vnn=7,tzf=7,sjv-,bn-,hjzk-,xzx=2,sm=6,nk=8,rjv=4,sddcg-,rnxr-,mxjqbq-,hfh-,ncnn=2,xskpg=5,js=9,kl-,xzs-,vsfr=2,vcc-,jp-,lm=3,kglpb-,mjgk=3,dz-,pg=5,cll=8,pksf-,rjk-,dsg=8,jhz-,ht=4,dmqg-,vmfb-,xlvc=6,kd=6,fkcrd=4,xtx=1,mq-,bgr=9,kmq=4,plj=4,zmrf-,qm=4,trx-,stl=3,rbx=9,jv-,zr=6,vbn=3,jxl-,kkh=3,rlsb=6,tbb-,ld=6,pd=3,vppjn-,psr-,hp=6,jh-,tlrdb-,hzv-,gxdg=7,hhx-,stl-,vm=8,hc=5,pff-,fg-,zc-,jvz=6,kjm=2,cjm-,tcv-,lk-,cqc-,zb=8,kgb-,dpb=7,kbd=5,tc-,xn-,bdms-,df-,qqhmng-,dkvhx-,bnnl-,zmjq-,tqr=2,bggz=4,gl=8,vj=2,hhx-,gkm=3,dzkdph-,zmjq=8,rbx-,jtl-,jv=9,tm-,xh-,vppjn-,gj-,dzkdph-,fc-,gf=9,qlj=2,cqc=8,zxbk-,xh=7,ptz-,zf-,dvnxlq-,fxpf=3,zjxhp-,srf-,lc=9,qdjqqj-,fgb=1,jtl=1,cfhnz=3,tkn-,dsv=6,gkm-,jtl=6,svtrbl-,tt=3,cvgxgx-,zxvvs-,zk-,vcc=8,kglpb=9,sjs=5,sqdb-,fg-,rnxr=8,gsgn=4,pxn-,pd=4,sgz-,sm-,nhb=7,gc-,thh-,fgbmr-,ncnn-,prld=4,zk-,pqk=8,jkgmr=5,hbr=9,cxdvn=5,kbj=6,rjv=5,jr=8,rlsb-,phs=9,xkhb=8,hjzk-,sfv-,qlj-,gcgq-,zk-,jkm-,drs-,rpm=5,sdrlgs-,fgb-,lmn=7,zx-,jp-,brc-,fbm-,rlq=5,tcv-,pvskb=9,vf=6,bjqhkv-,vppjn=4,dp-,jc-,nr-,hb=7,hkmzg=3,hjjbm=9,vlz=7,qc=8,qg-,jqp=5,fscct=8,jf=1,vsqnvg-,shv=2,bxgklq-,qfx-,rx-,hd=7,gbn=1,fc-,rhh=9,srf=5,fxf-,dpb=7,ctsf-,sfx=6,sq=5,rzg-,cxdvn=2,vz=5,msc-,pfffk=5,ln=3,rbhc-,rcccsh-,hzcct-,pqk-,sddcg-,psr-,kbj=1,srn-,ln-,hvpnx-,fgb=5,nqrg=4,pksf=1,rth=2,bjqhkv-,qx-,kxfh=1,zgm=7,kck-,hvch-,fxf-,jdb-,cjm=8,pzlt=8,ctm-,rp-,hzp-,mns-,mxjqbq=2,mkfkt-,zh=5,pg=1,jf-,xlvc-,mg-,tn=6,lqkl-,nszns=3,kck-,hssnb=5,kbb-,kxprl-,fkcrd-,rfdn-,rchl=2,pqvj-,nj-,xk=6,lc-,mkfkt-,nfcd-,rfl-,ftcf=2,vf=2,dchg=6,xskpg-,rd-,qvr=4,shv=6,dxnl=2,zb-,xskpg=7,phs=4,ctz=1,vf-,dchg=3,hvch-,sfrkrq=9,gvsv-,kxfh-,pvskb-,fmc=6,qbmj-,lrz-,jp=1,fmc-,cqc=8,hjzc=4,tds-,vtm-,svx-,gqp-,psr-,vnn=4,sjrr=3,pqk=5,stl=2,zxb=1,plj=6,vcc=9,lmn=8,bpzt-,rm-,plz-,nfcd-,xh=7,zq-,jvz=2,pr=7,lc-,dtv-,kb-,srf=2,llv-,hzcct-,bm=2,fxq=5,rfl=8,gbn-,smmfv=5,gvgk=6,gvgk=9,bnzf=1,zhz=3,nmf=3,sp-,ldkl-,bggz=7,gvgk=1,nr=5,vg=9,cjh=9,pvskb=9,zd=4,qcr-,kcg=7,mxx-,pgdc=5,rm=8,vz-,kdr=5,vjz=1,kjqk=8,rfdn=7,sfv=3,td-,hh=9,bjqhkv=7,pxrt=2,xp=4,psr=5,qqkfpp=2,bgt=3,xh-,cfhnz-,tds-,lrz=5,kstj=4,ktxv=9,tm-,qqn-,qfx-,xck=4,tzf-,nb=7,tfjn=7,kxprl=2,xh-,hzp=3,qn-,pkz=1,sq=8,kph=9,pd=3,dfvrf-,rjk=1,sq=5,tsvb-,tc-,vz=7,jvz-,pscz-,lz-,pr-,hbz=4,zbf=8,hgzllr=6,mfm=9,mmq-,tjvtx-,dzkdph-,bc-,vnkh-,pl-,nfzk=6,kck-,kkh=7,rdrdm-,zbf-,fgb=6,lx=6,kd=5,dzkdph-,fsfgj-,xk-,qx-,jkgmr-,nm=2,qfh-,rd=5,bdh-,tkn=4,dd-,zmjq-,rjv-,lmn-,hvpnx=5,vq-,qcr=4,sddcg=4,rmm-,mdxk-,zgcr-,nb=7,nj=2,kqfx-,zjxhp=3,dchg-,lldkk=7,pjkdk-,qzl-,msc=8,rbx-,sj-,lldkk=3,xh-,tds=6,fxpf-,tq=5,st=3,zx-,csk-,fkcrd-,qb-,kstj-,dqqxh=5,kb=3,cpr=3,pxrt-,xrg=5,mv-,td-,vl=9,mm-,cv-,mns-,rmm=6,xt=3,dkvhx=5,hvpnx=7,hzp=3,rzg=1,hs=1,gl-,vn-,llv-,gt-,mjgk-,mg=1,sfv-,qb=3,kmq=8,phs=6,tkr=6,pfhdsr=5,bgt=8,plz-,krd=4,jmkgv-,tjvtx=8,zbh=1,vz=1,nppt-,rd=2,zdn-,pjkdk=7,hc=8,zr-,ms=2,cgl-,zf=9,bm=5,zxvvs-,kgg-,gvgk=2,sjv-,tfjn-,st=8,kdr-,dvnxlq=3,pxrt=2,zbh=4,sfv=8,jkkm-,pkz=3,fscct=6,vtzxn-,qx=4,ld=8,lvvn=9,vxxd-,sgpz-,jqp=3,sbvl=1,qh=7,rjv-,gvgk=4,nrdc-,xzx=2,bgt-,bdms-,qdjqqj-,zmrf-,lbs=9,jp-,mht=8,krd-,rp-,bxd=4,pmn-,vsfr-,kxfh-,mhtb-,qcr=2,qzs-,sq-,fsfgj=3,rp=4,zxb=8,sjkjmk=8,hhx=6,dmqg=1,qm=9,qz=5,vmfb=8,sbt=3,pfhdsr-,ptz=3,kq=2,fscct-,kbj=5,thqhkm-,krd-,tjvtx-,fhj=3,pxn-,pbh-,sj-,kx=3,ncnn=5,smg-,dz=9,tlrdb-,fjm=2,dz=5,dvnxlq-,vnfq=1,vnkh=9,rq-,pznsd-,cfn=4,xlvc=5,hh=9,fhj-,mvz=9,kq-,jp=1,bpzt-,hfx-,sn-,lldkk-,hbz-,rfdn=1,zb-,cs-,fscct-,rzv=3,vgqks=8,qcr=2,tqr=8,ln-,qvr-,lmn=7,tbr=3,bxd=8,rhh-,mfm-,ng-,xbj-,gql-,xps=7,qg-,hvpnx-,sjv=3,dpb=2,nb-,plj=6,fgg-,plt=8,jh-,cgmt-,lc=3,hlz-,vj-,bjqhkv=5,cc=4,tcm-,hg-,nr-,cpr=1,pp-,gmrg-,dqqxh-,nbxt-,sgz=8,srs-,qqhmng=8,bzrj-,mf-,zrq=2,fg-,nrdc=9,cqc=5,srs=8,vk=8,sfx-,qqhmng=2,bgt=6,sgpz=9,vq=1,tzf=6,pkcdb-,cmz=9,fzrg-,hg=1,bk-,cpr=9,ldg-,gxdg-,ln=1,vf=2,sq-,lz=5,mzpt-,tcm-,jtl=5,nfcd=8,rp=9,hvch=3,bnnl=8,ddqn=7,zfr-,bbd=4,kd-,lz=7,fj-,dtv=5,pvskb-,pkt=1,fgbmr-,lldkk-,qfbl=6,gq=3,mxjqbq-,cfhnz=8,nmf=5,mmq-,lx-,cgl=6,sqdb-,vtzxn=7,mdxk=6,rjk-,tl=2,vg=7,gj-,nszns-,jc=5,bnc-,rfdn-,pb-,cxjg=2,nrxks-,qlj-,dz=8,lvvdch=1,zxbk=4,kjm-,mns=1,kdr=1,pqk=9,gxdg=2,nk-,lvvdch=9,zrq=5,zx-,pscz-,hjzc-,dvnxlq=1,pv-,dgjq-,btfb=8,lvvdch-,cc-,rdrdm=2,htsz-,dtv=6,nkk-,mvz=3,cjm-,rzx=4,jp=4,ldg-,pbh-,dqqxh=8,bm-,zfr=4,crn=1,mvz=8,tfr-,ddl-,dc=4,ggs-,njgnjr=8,mfm=2,gql-,zrgsmc-,dqqxh-,rpm=5,dchg=7,jdb-,fg-,dd-,xh-,jkm=3,qm-,lldkk-,cjh=3,vmfb-,ds-,jdb=4,kdpkm=8,dpb=6,zxbk=9,kq-,vppjn-,sldvr-,bmrd=5,fgbmr-,cxjg-,sfrkrq=2,hjjbm-,kdr-,ll-,zhz=8,ls=1,sbt=7,trx-,vxxd=6,rpm-,zmrf-,kglpb=4,bbd=1,bnzf-,cmz=3,kjqk=6,hh=8,lz-,fzrg-,lvvn-,ktxv=4,ldg-,kgg=8,tsvb=2,dqqxh-,zdn=1,tn=2,zjxhp=7,llhc-,mht-,dqqxh=6,srs=4,zrgsmc-,tfjn=6,bq-,nrdc-,fgb=6,fsfgj=4,hljg-,cmz=6,kbj=8,rfl=7,hp-,jqp=6,sfrkrq=7,bm=5,zxbk-,nr-,mxx-,tkn-,bmvkj-,rd-,tkr=3,zc-,hvch-,xps=9,hjjbm-,vq-,xzs=1,mvz=9,pkt-,sm-,ftcf=2,jx=7,dc=4,hjzc-,sdrlgs-,vj-,xps=7,fhj=9,vn-,zb-,sdrlgs=7,fmc-,vxxd-,kb=8,sfv-,zx-,lf=7,qqkfpp=6,bjqhkv-,vn-,lxgfp-,cgl=7,xck-,crz=7,sm-,xt-,plfxt=6,sm-,bz-,vnn=1,trx-,pp=9,cxjg=2,zr=7,xtr=4,bk=8,lkn-,kxprl-,kstj-,xtr=7,pp=6,zmrf-,fgbmr-,lf=9,mht-,pkcdb-,hvch-,ddqn=3,pn-,ln=7,lbs-,tg=3,dqqxh=3,htsz-,vq=8,kbj-,lmn-,pxrt=1,svx=1,fgbmr=4,zbh-,hm-,ldg-,cxdvn=1,hh=6,xt=1,cfn-,cc-,kx-,zh=1,df-,pp-,kgb-,kph=8,brc=9,dv-,bxd=1,mhtb-,pgdc-,sn-,dchg=3,xzs-,krd-,xn-,zcq-,hkmzg=2,jcgc-,pd-,lvvn=2,sjs-,fbm-,zdn=4,zmjq-,pfhdsr-,qz-,dv-,tt-,vmfb=3,rzv=6,bzrj-,hs-,dkvhx=9,tg=4,gxdg=5,dtv=5,zjxhp-,rjv-,ccr-,fc=2,jxl-,gt=2,jf=5,fhj-,lrz=2,gcgq=2,ncf-,trx-,kgb-,xtx=9,xkhb=9,pkt=9,ctsgf-,xkhb-,hjzc=5,pp=8,lkz=2,zh-,rcccsh=1,rh=3,cfn=2,fgg=5,bn-,csk=1,bm=1,kbj-,phs-,hfx=5,zq-,tqr=4,ll-,xnv=5,rn=5,vj=1,ts=9,jhz-,nqrg-,gst-,nhf-,zq=6,hgzllr=8,tlrdb-,hdn-,xk=6,kstj-,fkcrd=5,ps-,gmrg=5,smg=5,dmqg=8,hzv-,bnnl-,vnfq=3,gc=5,qk=1,gf-,dz=6,krd=6,bpkl=3,nztnr-,zmjq=3,zb=9,dchg-,rfl-,prld=7,pjkdk-,gs-,td-,lz-,pxrt-,vtv-,djm=1,fgb=1,vtm-,cpmp=1,jkm-,sgz=6,gvgk-,srn-,ftcf-,mzpt=9,tbr-,kgg=6,rv-,srs=3,gcgq=3,pb-,ffp-,gvgk=5,hlfg-,qbmj-,hp-,ts=9,jc=1,vsfr-,plj=3,kgg=4,brc=3,cc=9,hlz=1,nk-,vsqnvg=7,xzx-,bbd-,mg=6,sgz-,sqdb=7,xh-,dvnxlq-,zcq-,gq-,qdjqqj-,rlsb-,mzpt=5,lc-,qm=2,zrgsmc-,lrz-,ggs-,kbd=4,ps-,ppg=6,ptz-,dxnl-,gl=4,cs=9,zh=5,ngg-,sfv=1,vm=4,ckv=2,zcq=7,xzs-,vm=4,drs=4,ld-,jkm-,zr-,gkm=9,vhx-,cxjg=6,dmqg-,rx=8,pqvj-,pvskb-,gbn=7,jq-,kx=5,xbj-,pgdc-,rjbnms-,lmn=7,mm=8,zgm-,rzv=1,hdvm=7,jc=2,zmjq=5,lrz=5,mdxk=4,tds-,gpq=1,rpm-,llhc=8,sfv=9,dsv-,rjtt=4,jxl=2,qm-,stl-,dp=4,jx-,hfx-,ftcf=5,zgm=1,gmrg-,kbd=7,rjbnms=3,dv=4,mvz-,pb-,vsfr=3,dxnl=3,fkcrd=3,rjv-,nb-,gvsv=5,svx=6,phs-,qk=6,zcq=4,qbmj=1,cvgxgx-,pgdc=1,phs=3,kjm-,fc-,lz=8,zgdszr=9,jkm-,pg=8,lf=7,bk=5,vbn=5,fscct=3,rchl=6,cvgxgx=5,rx-,ms=4,tkr=7,vmhl-,kxfh-,xtx-,jhz-,vnfq-,rzx=8,hb-,gbn-,xrg=9,rpm-,vcc-,tt-,krd-,ms=7,kdr-,tcv=1,sbckcf=4,cs=8,pfffk=3,llv=8,pr-,hljg=3,mq=7,qzl-,zfr=5,zgm=7,rzv=7,nm=2,sddcg-,sbt=7,tfr-,fxq=6,pd=6,tgzqhz=1,dchg-,nr=3,ll=9,sgz=3,vppjn-,bmvkj-,srf-,kdr-,kqfx-,rpm-,kb=9,gkm=7,nj=9,tzf=6,bzrj=3,ps-,tsmm-,jkkm-,kkh=8,ldkl=1,crn=5,pl=5,tg-,zhz=8,jkkm-,vbn-,ls-,mhtb-,bgn=2,zrgsmc=1,hlz=4,nd=8,fgb-,rp=1,cjm=9,xn-,ffp-,tsmm-,kx-,pbh=3,jf-,nppt=5,xt=7,hfx-,ts=8,bbd=6,dd=3,xbj-,sjrr-,mmq=5,nmcg=7,kstj-,ln-,bnnl=1,cs-,tsmm=6,vtm-,bdms-,qlj-,clz-,bjqhkv=2,thh=6,fxpf-,nztnr=9,tds-,ps=6,gql=9,dg-,pkz-,kbj=4,tbr=7,stl=9,mht=4,xzs-,qqkfpp=2,mzpt-,gpq-,tlrdb-,dpb=3,xtr-,kbd-,krd=2,kdr=2,ckv-,ldkl=9,cc-,qfx-,vl-,gmrg=4,lxgfp=6,vg-,drs-,mkfkt-,vq=1,sbvl-,sjkjmk-,gf=1,rh=6,cgmt-,hhx=3,fvx=8,mg=7,xbj=3,qfh=1,tgzqhz=8,fzrg=4,kjg-,tn-,pl=4,tt-,ld=3,xkhb=2,gkm=8,lxgfp-,zb-,sjv-,cx-,mg-,rzg=9,bgn=4,vdtv=5,hkmzg=7,sddcg=5,dsv-,df-,qg-,rlsb-,mjgk=1,gbn-,vj-,dz-,zxbk-,bgf-,tsx-,cs=9,hfx-,crn=8,sq-,qbmj=1,ldg-,kph-,cp=8,jc-,nnkn-,gt-,vs=7,dg-,ngg-,sqdb-,kgb=3,nk-,sjrr-,bq-,ms=2,ng=3,hh-,vnfq-,qqn=6,cx=5,plfxt=1,zxbk=5,dg=1,gpq=4,nszns-,vjz=5,hdvm-,xzs=5,thqhkm-,qp-,xmf=4,lxgfp=9,hdn=1,vtv-,brc=7,qh-,qz=5,bz-,vn-,dxnl=2,gq=7,tkr=1,kjm-,bgf-,xkhb=3,tfr-,vppjn=6,tzf-,kph-,nztnr=8,zgm=8,jkkm-,zmjq-,qqn=8,kgb-,kxfh=3,bgt-,dpb=6,kph-,vnfq-,gst-,tc=1,gs=9,bgr-,zs=1,sdrlgs=1,dv-,tds=8,qqn-,bdms=4,df=4,qx=5,zd=6,sddcg=8,rdrdm=5,vnkh-,fc=8,fmc=7,ps=8,smg=7,rfl-,zgcr-,gcgq=2,kxprl-,kxprl-,ps-,crn=5,jhz-,sfv=6,fgbmr-,qn-,fj-,rmm-,ffp=2,jkgmr=8,zk-,qqhmng-,pvskb=4,lc=5,lx=1,gf-,hkmzg-,rbx-,qqkfpp=3,bxd=9,hzp=4,nrdc-,zgdszr=5,mfv-,pqk-,rlq-,js=8,dz-,cgl=7,pd-,xnd-,zd-,ld=6,bgn=8,tv=4,nnkn-,lz-,vbn-,bhqn=2,dxnl-,tfr=6,jr=8,pg-,nx-,fjm-,dzqm=5,gsgn=8,zs-,xzs=7,tfr=6,jxl=9,zrq-,pfffk=9,vnn=5,pjkdk-,bpzt-,sgz=6,prld-,skn=9,dfvrf=8,kck-,hbz-,nnkn-,crn-,pr=5,vs-,fxq=4,rzv-,kkh-,pkz=8,hssnb-,lrz-,sjs=4,hvpnx-,mns=4,mkfkt=7,jvz=6,xn-,rd=6,bgt-,lbs-,zhz=1,vm-,hdvm-,bnc-,ds=1,dz=6,fsfgj=7,ld=6,vcc=1,tl-,cc=9,zcq=4,dmqg=9,kd=3,cp-,svx=6,nfzk-,mxjqbq-,cpmp-,lx-,lvvn=7,ctsf=1,fg-,bzrj=1,jkkm=1,kdpkm-,nmf=3,qp=7,cgl-,lm-,nqrg=9,ctz-,dvnxlq=1,djm-,xh=5,mq=1,fxpf=5,qfbl-,svtrbl-,rnxr-,zbf-,sj=9,qfx=1,kkh=6,fj-,tgzqhz=1,jx=4,nx-,fvx=4,cp=2,dchg-,nr=7,dzqm-,xmf-,tcm-,llhc-,zjxhp=5,vk-,bxd=1,lvvdch-,hzv=9,rhh-,bq-,mf-,zq=9,gl=1,hh=3,qn-,bmrd=4,qg=4,djm-,zb-,dzqm-,pr=4,rfhzp=2,vz=2,cjh-,xtr-,jh=2,qz-,cmz-,pp-,xtr-,prld-,xtk-,bhqn-,bdh-,bgn=6,dsgq=5,zgdszr=3,jhz-,hfh=9,smmfv-,hzv=3,fgk=1,lfbxm-,pxn-,qz-,lc=9,ngg-,pbh=8,rbx=8,zx-,njgnjr-,kkh-,kcg=2,cjm-,mznnc-,hp=1,xp-,gl-,dzqm=6,fxf=1,kxfh-,pgdgh-,mf=6,rbx=7,pkt=6,kxprl=2,pxn=4,pr-,tfr-,sldvr-,cx-,xzx=7,tbr=3,ctsf-,hd=1,jx=7,fjm-,rzg-,dsgq-,cn-,pjds=4,dgjq-,hp=4,prld=7,fzrg-,hvch=2,cgmt-,gf-,mzpt-,hlfg-,qx=2,hdvm=1,brc-,mzpt-,dqqxh-,pp-,td-,rjbnms-,fhj=7,vg-,rm-,dmqg=7,mfv=4,qdjqqj-,kx=9,ds-,zmrf-,vd-,gs-,fj-,lqkl-,ds=4,hll-,lvvn=7,qqn=5,rpm-,fgg=3,rchl-,rzv-,xskpg-,dc=6,ng-,gkm=8,tkr-,mkfkt-,ldkl-,bdms-,crn-,sddcg=3,qfh=9,mxx-,tfjn=7,shv=3,tgzqhz=6,xrg-,zgdszr-,tcv=2,kbd-,lm=2,vn=8,jqp=7,rfdn-,bdms-,vppjn=8,rzv=3,cxjg=7,xzs-,pjds-,vxxd=1,bc-,fj-,tgzqhz=3,bpkl-,ndd=9,rth=9,phfg=3,vdtv-,ls=6,sbckcf-,sfrkrq-,pfffk-,thqhkm-,hp-,gpq=2,rn-,xzx=2,kb-,cgmt=1,tzf-,tbb=3,bgf-,smmfv-,ln-,jf-,gs=9,bc-,lrz-,zfr-,nr=9,fxpf-,dg-,qqkfpp=7,kstj-,rd-,ddqn-,qbmj-,vmfb-,lldkk=2,dkvhx=7,vj=3,vq-,kmq-,zfr=6,pbh-,nrdc=8,pff-,rbx=9,sbvl=1,dfvrf=9,ms=1,cpr=6,ffp=4,ncf-,bm-,ts=4,ng-,rd-,bc-,rjbnms-,fj=9,rfl=6,pd=5,lkn=4,bgr=7,mvz=5,xtr=2,fm-,vjz=1,dgjq-,sldvr=3,hc=4,gpq=3,dsv=7,dgjq=3,hfx-,zc=9,rfdn=7,kl-,hgzllr=5,sbckcf=5,zq-,hhx-,ds=8,ffp-,pqk-,ctz=6,vcc-,gl-,vq=7,sldvr-,dsg-,kd=8,rbx-,vs=4,gs-,tds=5,jtl-,jx=3,vd=5,pgdc-,nmf=3,smg=6,thh-,svtrbl=2,rfhzp-,qc-,ftcf=1,clz-,sj-,qfh=7,mq=6,rcccsh-,ccr=7,rpm-,hlfg=7,nqrg=1,dc=9,cfhnz=9,njgnjr-,bdms=6,plt-,dc=9,dchg=9,dzs=7,sddcg-,bq-,gst=8,qzs=6,rzv-,rbhc=1,llv-,cv-,mf-,sj-,pl-,tjvtx=4,ckv-,vs=7,vl-,ctz-,rbhc=7,sdrlgs-,mq=7,lx=8,tt-,ffp-,ctsf-,mf-,bxd=4,drs-,msc=2,hjjbm=4,zmrf-,lkn=4,lkz=9,pfffk-,jv-,pd=7,bnzf-,ng-,qqkfpp-,vm=3,vgqks-,ncnn=5,ctsf=9,xzx-,thh-,qfh-,pb-,bgn-,ccr=1,zx=5,bxgklq=4,mxjqbq-,dkvhx-,ll-,sddcg-,psr-,ctz-,xp=2,sgz=6,cfhnz=5,kstj-,xjh=4,tds=6,ldg=7,fm-,vs=8,zrgsmc=4,pznsd-,cp=5,rjv=6,jxl=2,vnn-,qk-,hfx-,srs=9,zq=7,ncnn-,tt-,sgz-,hd-,ddl-,hd=8,tgzqhz-,ldg=4,hjzk=9,lrz=4,fbm-,gj=6,tcm=4,jhz=3,hvpnx-,xh=1,kjqk-,gst=8,zxvvs-,nszns=2,pkt=9,kdpkm=1,cs-,hssnb=7,cp=1,zf-,mvz=5,ncf=1,nks-,dmqg=9,dz=8,msc-,js=7,nztnr=6,xrg=4,plj=7,drs=3,lrz=9,clz=8,tc-,kph=3,rfhzp-,cpxnh-,ps=2,xzx-,ldkl-,bpkl=7,nppt=5,bgr-,tsmm-,tl=1,vbn-,ncf=3,hjzk-,cgl=7,bnnl=4,vxxd-,lbs=4,dmqg=2,lmn-,rth=6,bnnl-,ht-,fm-,kck=6,vxxd=5,pscz-,vdtv-,kqfx=7,cqc-,hdvm=9,ncnn-,xjh-,nkk=2,sgz-,kjm-,jvz=1,ncf=1,tjvtx=4,rth-,tm=4,mxx=5,pxn-,xkhb-,tm=8,ffp-,zx=4,pgdgh=7,jmkgv-,vq=2,hhx=1,smmfv-,rfhzp-,bpzt-,drs-,pg=2,bgn=8,kxfh=3,jc=5,vs-,dfp=1,smg-,fmc=5,mzpt=8,zmjq-,xh-,fgbmr=7,nqrg-,mns-,rpm=2,rfl-,pfhdsr-,jr-,sdrlgs-,mm=2,dg-,sfx-,xskpg=3,rn=5,sfx-,gbn=5,qk-,qm-,bq=7,sjs=3,nb-,kgg-,ktxv=2,hdvm-,bz=4,nfzk=3,ncf=6,hljg-,fxpf=9,sdrlgs=1,cfn-,ng=5,tg-,xt=3,tkr=1,dz-,vjz-,nx=3,lk-,bgt-,rfl-,ctz-,rcccsh=6,hkmzg=4,vlz-,bs-,hzv=2,pg=7,ctz=8,fkcrd-,ddqn=9,bhqn=3,lldkk=7,sj=9,vj-,cp-,kbj-,bs=9,bgn=3,xzs-,ppg=6,vsqnvg-,fgk=4,xbj=4,vxxd-,sm-,dv=4,pgdc-,plfxt-,lqkl=2,hh-,qc-,llhc=8,dsgq-,zf-,hssnb-,kbb-,xnd-,ll-,qbmj=9,vmfb-,zs=7,ctm=4,phs-,qqn-,mhtb-,zxvvs-,sldvr=2,sgpz=2,pkcdb=5,sddcg=6,jh-,pzlt=1,sdrlgs-,qc-,cll=8,srn-,qfh-,rjtt=7,qn-,vbn=1,gbn-,prld=2,nmf-,bbd-,hfh-,gl-,cp=5,cjm=5,vk-,ftcf-,zf=7,kxfh-,cpmp-,df-,fvx-,bgn=5,bnzf=9,kgb-,krd=1,rfl=3,dc-,xnd-,vnn=1,zb-,mhtb=7,smmfv-,ggs-,bm=5,hhx-,tkn=6,ldg-,hdn-,vnfq=2,tn-,sfrkrq=2,hzv=3,sqdb=7,rp-,kxprl-,hzcct=6,sbckcf-,hdn=6,llv-,mf=9,plz=4,fgb=1,fgb=6,rjk-,dzqm=8,rzv-,mznnc=8,hbz=1,drs=2,lmn=3,dd=2,rfhzp=2,tjvtx=9,zmjq-,bc=3,xzs=7,tn-,ncf-,hjzc-,ngg-,hll-,ftcf-,kbd-,pqvj=5,pxrt=2,ln-,fvx=8,stl-,nszns-,nrxks-,srn-,zbf=4,shv-,jmkgv-,gql-,mfm-,tsx-,bzrj-,gq=4,gxdg=9,xt=9,fsfgj=1,qp-,zdn=6,cc-,sldvr=1,tkr-,xn-,pgdc=6,qqkfpp=7,cgmt-,kxprl=5,sbt-,rdrdm-,ll-,cll-,pd-,vtm-,xtk-,hhx=7,ckv=5,qb-,kkh-,qqhmng-,fg=6,xck-,bq-,btfb-,nbxt-,krd=2,bgr=4,fsfgj-,tm-,vd=4,jqp=6,bpkl=1,xtr=7,zxbk-,gt=6,dv=7,vtv-,xkhb=9,rmm-,lc=5,sbt-,jvz-,fxq-,rh=8,bnc-,vsfr=6,fgb-,ffp=2,vj-,mjgk-,fhj-,jvz=4,hfx-,pd-,ppg-,pscz=1,cpmp=8,gmrg=5,tn-,pfhdsr-,cx=3,rp-,jmkgv=1,xps=1,sbvl-,qp=6,qzl=4,jmkgv-,vz-,tfr=6,vhx-,xtx=4,ds-,zgdszr=6,xmv=9,zk=2,fsfgj-,pbh=9,zq-,xnd=1,ngg-,dzqm-,tt-,hm-,prld=8,qk=7,qzl-,xlvc-,cfn-,xt-,zxb-,dp-,vnfq=7,pn=4,qn-,thh-,vcc-,zgcr-,pzlt=1,pkt-,cxdvn-,qh=7,srs-,pksf=6,pscz=7,zgdszr-,gsgn-,nkk=4,zf-,xkhb=6,tjvtx-,qzs=8,rd-,fzrg-,lkn=4,mv=3,nb=1,gkm-,zxvvs=5,gqp-,thh-,tcm-,fg-,pxn=4,vppjn-,jp-,xt-,sfrkrq-,llhc-,nd-,cjh-,nhb-,vmhl-,rdrdm=8,jhz-,bz=1,tt=7,vgqks-,cx=3,jr-,cgmt-,bbd=7,dvnxlq-,kbb-,qx-,pqk=3,nd-,rd-,rchl=1,lbs-,vmfb-,qx-,qqhmng-,fc=5,zr-,ds=5,sq-,dd-,ncnn-,thh-,xrg=9,zxvvs-,gc-,vnfq=5,tlrdb-,kdpkm=7,jtl=1,pjkdk=3,gsgn-,kph-,vtzxn=9,pp-,kstj-,qfx-,nj-,fkcrd=5,tkn=9,rh-,jh-,tjvtx=2,st-,zrq-,dfvrf=4,tcm=4,jmkgv=4,fg-,smg=6,dzkdph-,sgpz-,cjm=8,nrxks-,xlvc=3,bq-,tbb-,tgzqhz=9,dmqg=5,bm=2,tkr=2,zs=4,xzs-,tjvtx=2,mkfkt-,zq=1,dc-,pp=1,htsz=2,ppg=2,dc=7,bnnl=7,rjk-,pxn-,sfx=4,vf=2,kstj-,nx=3,nkk=2,qc-,nhf-,qbmj=6,mns=9,xzx=2,sbvl-,vmfb=3,pgdc-,mxx=3,cpmp=3,zh-,sqdb=9,pl-,hdvm-,dfvrf=8,ptz-,xnd-,ldg=3,qx-,cs-,fc-,zhz-,vgqks-,nrdc-,vj-,pscz=1,nx=5,xbj=5,lz-,kgg-,lm=4,vl-,cxdvn-,hd-,hljg-,shv=1,sqdb-,rn=3,lxgfp-,dp-,vnn=1,jf-,jkkm=2,gql-,pfhdsr=3,hb=6,rth-,qx=9,lkn=7,hlz-,qb-,vmhl-,hljg=1,gxdg-,qcr=4,rchl=2,vj=3,kbd=7,ptz-,mznnc=1,zfr=9,pfhdsr=4,mg=9,ng=8,zxb-,hzcct-,xn-,brc=8,zf=7,jf-,sjrr=9,ndd=3,cvgxgx=2,fzrg-,vk=4,kdr=9,lz=2,mmq=8,rn-,hbr=7,plfxt=2,fxpf=6,zbf=7,tjvtx-,tcv-,vs=4,bgn=5,zgcr=4,rfdn=4,rjk-,nb=9,bdh=9,hb=5,cpxnh-,vm=8,pv=7,gs-,sp-,hfh-,pp-,pgdgh=1,vtv-,nk=1,xt=6,jmkgv-,vtm-,llhc=6,kbj=2,jkkm=8,msc-,hgzllr=8,qzl-,tjvtx=9,hlfg=5,dp-,gql-,pff-,qk-,vmhl-,lxgfp-,pn-,vn-,sqdb=7,bn-,mfv-,kqfx-,xtx=6,hvpnx-,krd-,xh=8,mf-,pscz=6,sgpz-,kl=7,qb-,kstj=9,rzg-,lk-,dc=4,lqkl=4,mv-,pqk=9,ts=4,ldg-,xt=4,sbckcf=8,bm-,rlsb=2,krd-,mxjqbq=9,ll-,cgl-,jf-,cpr=3,vppjn-,bm-,pjds-,mkfkt-,bzrj-,ndd-,kbd-,xskpg=3,jtl-,fgk-,fvx-,gqp-,smg=5,tfr-,rv-,sfx=7,hljg=5,vs-,bnc=1,bdms=6,hkmzg=3,zxb=4,smg-,hzp=7,hbr=4,ctsf=6,cll=6,qqkfpp-,hb-,gsgn-,fxf=9,jdb-,fgb=9,xmf=1,tzf=6,mht-,vgqks=1,hp-,dzkdph=6,hfx=3,pmn=4,sbvl-,njgnjr-,mxjqbq=4,sq-,xck-,kjqk=2,qzs=9,mxjqbq=2,sddcg=4,hjjbm=9,hgzllr-,pfhdsr-,kgg=5,fvx-,ktxv=2,phfg=2,kgg-,vjz=5,dvnxlq=4,kmq=8,thh-,ftcf=9,ng=4,nx=3,sjv-,rh=3,ps-,zxvvs-,nb=3,vnfq-,bnc-,kstj=2,fc=1,qfbl=5,ppg-,tt-,qp-,zxvvs=1,pb=2,kph=1,jhz=9,tgzqhz-,hfx-,hzp-,cx-,hh-,nppt-,rz=2,pkz=1,cbqn-,gxdg=9,ldg=9,gql-,rjk-,ps=4,jdb=4,qqn-,rhh-,sbvl-,lvvdch-,rx-,sldvr=8,sbckcf-,ftcf=4,jhz-,lxgfp-,ctm=2,smg-,zk-,tbb-,dz=5,rbx=4,hzp-,sp=4,shv-,ccr-,dpb=6,lk=9,rjbnms=1,gcgq-,plj-,vd-,pkcdb-,vm-,djm=3,ht-,hbr=6,mhtb-,htsz=8,pjds-,gvgk-,prld=6,sgpz-,cp=5,gbn-,vgqks=1,plfxt=8,zjxhp-,fm=5,fj-,hlz=8,dzqm-,dzkdph=3,dsv=3,bnzf=1,bq=3,rh-,qg=6,vj=9,zh-,bjqhkv-,tv-,fzrg=9,kstj-,fxq=8,hs-,cjh=6,pr=5,pzlt-,mdxk-,dvnxlq=8,pgdgh-,dsv=6,vppjn-,ctz-,bgn-,fvx=4,nfzk=3,tgzqhz=5,dpb=9,jq-,cxjg=4,rlsb-,skn-,hm-,pl=1,qfh=6,hd=8,msc=3,jr=7,jv=9,jvz=9,pxrt-,fm=3,bgr=7,vm-,vz=6,hd-,nrxks=1,cfn-,jvz-,gs=5,rbhc=5,tqr=8,hfx=6,cmz=5,ld-,vg=7,pqk-,kbd-,zrq-,sfv=3,qlj=4,njgnjr=6,rjv-,dmqg-,ggs-,tcm=8,ctm-,dmqg=8,bnc=8,hbz=9,kqfx=4,dgjq=1,hzv-,ctm-,jr-,zxbk-,brc=1,clz-,fgk=3,tg-,ctm=9,qvr-,qqhmng-,nd=8,lvvdch-,gst=4,pmn=9,qqn-,mdxk=8,sldvr-,fxq-,ftcf=7,zf=3,lvvn-,bxgklq=7,tzf-,plfxt-,nx=3,nppt=2,htsz=5,lmn-,ncf=5,bs=4,vjz-,fxf=4,vnn=8,fkcrd-,jp=3,lk-,hvpnx-,nks=1,xzx-,hh-,njgnjr-,qfh-,hfx=8,rlq-,hjjbm=8,ngg-,rpm-,lx-,jcgc=9,fscct-,dfvrf-,hb=8,gq-,xzx-,ccr=1,qqkfpp=6,tds-,xnv-,qqhmng-,tkr-,sbckcf=5,gql-,pxrt=9,cv-,fgb-,smg=4,dmqg-,hvpnx=5,dgjq=2,rdrdm=1,dtv=9,rcccsh-,vppjn=5,ctz=8,xh=6,bxd-,dzqm-,fvx=4,bn=8,ptz-,rfhzp-,cmz=7,hvpnx-,gst-,dqqxh-,bn-,nmf=5,xt-,jv-,sjkjmk-,bmrd-,zc=8,qm=4,pznsd-,cmz-,cqc=3,sbckcf-,bk=1,xtr-,nd-,xjh-,rjk=2,hzv=8,lz-,dfp-,fgb-,fxpf-,pznsd=1,qn=6,zf=7,vl=5,sldvr-,sddcg=8,cn-,tfr=2,qbmj-,hb-,qg=7,pscz-,qqkfpp=9,gkm=7,hc=7,rfl=7,hfx-,dtv-,hzv-,fjm=8,hzv=8,cp=7,nhb=3,crz=7,vj=4,mm-,srf-,tfr-,lkz=8,fsfgj=6,dv=8,jr=7,fg=3,llhc=6,vf=7,kb=7,nszns-,sq=2,dchg=8,nrxks=9,brc=5,zxb=9,hll-,nkk=6,xck-,pznsd=4,fbm=2,xnv=4,vs=5,nkk=1,prld-,bpzt-,xt=4,tjvtx=1,nhb-,tfr-,hll=8,ps-,qzs=3,sn=8,zrq-,mg=5,bpzt=4,tjvtx-,srs=2,qm=5,tgzqhz=1,fm=6,nm=8,nkk-,dc-,rh-,xnd-,jf=9,js=9,xrg=3,jqp=5,vlz-,dqqxh=8,xzs=1,bn=1,vl-,sqdb-,pfffk=3,fgb-,mq-,gvsv-,xck-,rhh=7,bgn-,kv-,sjrr=5,sfx=6,hg=3,dd-,kd-,ktxv-,zvpd=8,bc=4,jvz-,qb=4,ctsf-,qqn=7,ggs-,dxnl=1,rd-,cgmt-,bn=2,rlq-,dc-,bpzt-,bk-,zd=8,zb-,nfcd=6,ncf-,phfg-,lvvdch=5,tt=8,dzkdph-,gvgk=2,srn-,xrg-,sdrlgs=3,nd-,nqrg-,shv=2,kbd=2,hdn=3,msc=4,cjh-,rjk-,zx=5,lm-,ldg=6,gbn-,ds-,lx=9,lldkk=3,psr-,cx=3,cmz=4,jvz-,pqk=2,zq-,dqqxh-,hs-,mjgk=2,smmfv-,ds-,hzcct-,nx-,tqr-,rth-,cx=2,dvnxlq=8,bk=3,svx=3,tn-,qvr=9,pfhdsr-,csk-,kd-,jkkm=7,lrz-,xps-,kjm=1,gq-,nk=2,dpb=6,ckv-,hh-,pv-,sbckcf=7,pg=3,svtrbl=7,zb-,cvgxgx=4,tlrdb=5,fgg=2,ktxv=1,rn-,bdh=6,pscz=3,bc-,hssnb=8,gbn=9,pbh=8,tbb=7,pgdgh-,fbm-,tcm-,pv=7,tbb-,kqfx-,qqn=9,dxnl=6,vmhl=1,lqkl=7,qfh=3,vsfr-,js-,pksf=2,pscz-,qzs-,cxdvn=9,zbf-,hm=2,nhf=9,nrxks=3,qp-,mm-,jvz-,rn-,tm-,cx-,srn-,xlvc=8,pscz-,xjh=7,jq=9,xtk-,sjv-,hlfg=6,ktxv=1,vnfq-,fjm=6,nkk-,bpkl=2,pkcdb-,svx=9,dp-,mzpt-,mq-,sm-,rjtt=8,rq-,rfdn-,hlz=8,tn=2,cgmt-,rnxr=3,nfcd=4,mjgk=3,pjkdk-,hll=9,sn-,mdxk=7,jhz=3,nrdc=2,vmhl=8,bpkl=4,vs-,sm=5,nhb-,cll-,cfhnz-,xkhb=2,vppjn=3,vmfb-,svx-,ddqn-,vtzxn-,bnzf=9,pqvj=5,hh-,tsmm-,js=4,tfr=7,nfzk-,pqvj=7,xk-,qn-,sgpz-,tv-,ls=3,clz=9,rh=9,skn-,qzs=7,tgzqhz-,ll=7,gbn-,tsx=1,cjh-,pl-,cp=3,zk=3,djm-,qm=1,dp=1,dsgq=5,fgg-,vf-,clz=4,zh-,ps-,nj=2,vnn-,ctz-,lz-,thh=4,kq-,nm=9,fhj-,zf=8,vppjn=7,zrgsmc-,qz-,kd-,nj=6,kph=5,gl-,xp-,kb-,rlsb-,fvx-,pznsd-,zmjq-,nrdc-,nmf=7,xmf-,vxxd=4,pb-,ddl-,xp=2,ddqn=5,cjm-,rjtt=4,fg=1,pkz-,ps=1,vtm=5,vg=9,rlq-,bhqn-,fg=9,llv-,llhc-,nb=3,plj=4,qfx=6,jp=4,clz=1,st-,hvch-,bmvkj=7,rjtt=4,tzf-,nx=6,ckv-,nj=8,tsx-,hfx-,kqfx-,bz-,dkvhx-,fmc-,tsx-,hb-,vk=1,kgb-,zfr-,fsfgj=3,lkz-,xh-,lm-,cll=6,qqkfpp-,sch-,sddcg=4,kph=6,hjzc=9,ht-,cmz-,vg=9,ndd-,dqqxh-,jr-,xskpg=2,svx-,sddcg-,hjzc=9,pfffk-,sfv=1,jc=7,zr=1,pxn-,stl-,sbt=6,nbxt-,tcv-,vjz=4,rchl=1,rcccsh=8,zgcr-,dd=3,bmvkj=9,gcgq-,js=4,mfm=4,vn-,pn=5,vdtv=4,vtzxn=9,sfv=1,htsz=9,xlvc=6,qg-,hssnb=6,ncf-,ffp=6,prld=5,vlz-,jq=8,bmrd-,sn-,vmfb=6,zs=4,xt-,vbn-,qzl=2,xskpg=4,gc=2,qfbl-,qfbl=1,qk-,hjjbm=9,zmrf-,td-,ktxv-,ktxv=8,cn=8,pfffk-,trx=8,zrq=2,tzf=6,jqp=4,ddqn-,hzp-,hbz=1,kdpkm=6,bpkl=6,fm-,mfv=9,pfffk-,pmn=4,pbh=9,qfbl=1,tbr=2,kbj=8,cjm=1,fbm=1,vsfr=4,qqkfpp=5,nszns=6,lrz=4,nd-,qfbl=8,tv-,lf=1,pr-,ffp=4,cxjg=9,vtm=6,lvvn-,fxpf-,vbn-,kglpb-,rd-,dz-,sjkjmk-,vl-,ts-,csk=3,gmrg=5,sldvr-,hh-,jhz-,vtv-,rx=2,mhtb-,qb-,zjxhp=4,gxdg-,nk=8,rlsb-,zgcr=9,mm-,cv=2,cxdvn=9,hd=5,kxfh=1,dd-,vmhl-,bq-,jkgmr-,kxfh-,fhj=9,vppjn-,tgzqhz-,kbb-,jcgc-,hlfg=3,lkz=9,fc=1,nb-,tn=5,hd-,ccr-,cpr-,cxdvn=6,jp=5,hvpnx-,lz-,rz-,bn-,phs=6,tm-,bzrj-,hll=7,hp-,zfr=4,hvch-,vjz=9,fgg=1,lvvn-,vk=3,dd-,gvgk=5,hs=2,vl=9,vnkh-,xh-,nj-,vj=9,qzl=9,kstj=4,dd=5,gf=4,st-,gt-,nk=2,pqvj-,mfv=1,sj=9,nb=5,tg-,svtrbl-,dqqxh=1,dv-,zfr-,qcr=7,vcc=6,rfdn=5,nks-,lq-,cgmt-,gst-,nm=2,hs=3,vg-,kph-,tg=8,ftcf-,lmn=5,kjg=8,kjqk-,tc=9,pzlt=1,fj-,ng=2,xmv-,bgn-,ckv-,hzcct-,cgl=4,rv-,bgf-,plj-,nm-,nks=3,pxrt-,prld=3,jmkgv=1,gmrg=8,pv-,tjvtx-,jkm-,mfv=4,qp=3,jhz-,bk-,lk-,zq-,ms-,ts=4,lvvdch=3,qvr=2,qx-,kl-,hjzk=3,zxbk=8,mmq=2,ps=7,ktxv=5,mht-,jp=9,hfh-,bgt=3,plt=4,gvgk=1,ngg-,jr=1,lfbxm=9,ps=1,cpmp-,jhz=9,lkn=8,bxd=2,mns-,srs=1,zxbk=4,cfn-,nk=9,mv-,cjm-,xrg-,rx=3,qbmj=5,vhx-,vl-,sfrkrq-,dsg=8,qqn=9,tgzqhz-,fgb-,nfcd-,pzlt-,mjgk=9,mv=4,rjv=5,pgdgh-,ld-,qp-,cvgxgx-,hljg-,jc=6,gsgn=4,vmfb-,rp=3,nnkn-,hfh-,lldkk-,cpmp-,nnkn=1,mdxk=8,bggz-,gql-,xzs-,jkm=9,sddcg=3,vmhl=3,gkm-,bxd=1,smmfv=1,mznnc-,sbt=9,pv=8,cv-,hfh-,rdrdm-,tq-,pb=4,nfzk=1,jv=3,pb-,bzrj=3,msc-,hfh-,xzs=7,qm=4,nhb-,nztnr=5,thh=9,jhz=8,df-,ffp=1,xt-,xps-,nhf=6,fmc=2,rjv=4,nfzk=8,ht-,kstj-,nnkn-,ld=5,hfx=9,xk-,dz-,hb=9,rd=9,vmhl=5,hzp=1,dchg-,ls-,bz=9,xzs=6,gqp=2,jn=9,rchl=1,hbr-,tzf=9,fgk-,ndd-,hbr=9,nhb=7,llv=9,sddcg-,hh=8,vk-,xzs-,cjm-,bmvkj=8,ffp-,rn-,cjh=3,mvz-,dg-,ts-,hc-,bnc-,xk=3,xskpg=1,kcg=9,xmf-,vsqnvg=8,rd-,nmcg-,hg-,ms-,kb-,fc-,bk=4,fxq=9,rfhzp-,lm=7,ts=8,fxpf=9,zrgsmc=2,nfzk-,kdr=5,pxrt=2,cgl-,qk-,fmc=4,vm-,rjbnms-,qz-,zgcr-,dfvrf=3,hbz=3,nztnr-,pfhdsr=2,kdpkm=2,zq=8,zxbk-,jxl-,pscz=3,sq=4,mxjqbq=2,nszns=1,hbz-,vgqks=5,vsqnvg=3,cx-,vgqks=5,dmqg-,fgb=1,hd-,tt=6,pr-,sq-,kgb=9,brc=7,ps=7,dc-,pff-,nhf-,drs-,tgzqhz=2,nfzk-,tg=3,mxjqbq-,tds-,jn-,bc=7,pxrt-,sldvr=8,sj-,jxl-,cgl-,ppg-,qk=3,ds-,dgjq-,nrdc-,lrz-,bgr-,zxbk-,tc=3,ppg-,nmcg=6,ng=1,qk-,nmcg=8,bzrj-,zxvvs=4,dmqg-,sn=9,hzcct=7,dqqxh-,mm-,vk-,jf-,xbj-,sfv=7,ht-,tn-,sfx=3,tt-,csk-,bnc-,brc=7,rdrdm-,pv-,hb-,dd-,kck-,sfv=2,rfdn=4,htsz=8,hs=9,zb-,mznnc=6,vcc=1,pqk-,vf=7,fmc=3,dfp=5,tl=6,xps-,kx-,st-,mm-,vtm-,xn=5,srn=8,gkm-,kb=8,lz=8,bgr-,vdtv-,nm=4,sfv=4,vnn-,gkm=2,rhh-,kb-,zgcr=8,kcg=9,bm=4,vcc-,fgb=9,clz-,bdms-,vtv=9,hssnb=3,rpm-,xmv=4,sch=4,mhtb=6,prld-,smg=4,sddcg-,xnd=5,vnfq=3,bmrd=6,fzrg=9,qqkfpp-,psr-,hll=9,ls=7,pmn=3,kph=1,kdr-,dz=4,ccr=7,pp-,zd-,dsv-,xtr-,cmz-,nhb-,jf=4,gs=1,bgr=7,sp=2,lf-,cn=9,nppt-,pqvj-,hkmzg=3,mzpt-,ldkl-,rzg-,nqrg-,jkm-,xh=3,gsgn-,sp-,qlj-,mjgk=8,dqqxh=8,bdh=9,bgr=6,kcg=6,pvskb-,dp=3,kx=7,pff-,dsgq-,mvz-,vhx-,mfv=3""";
 }
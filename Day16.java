@@ -1,11 +1,22 @@
-import java.util.HashSet;
+import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class Day16 {
+    static final Solver<Room> SOLVER = Solver.of(Day16::parse, Day16::partI, Day16::partII);
+
     public static void main(String... args) {
+        if (args.length > 0) {
+            try (var input = AocInput.open(Path.of(args[0]))) {
+                var room = parse(input);
+                System.out.println("Part I: " + partI(room));
+                System.out.println("Part II: " + partII(room));
+            }
+
+            return;
+        }
+
         for (String input : List.of(TEST_INPUT, INPUT)) {
             var room = parse(input);
             System.out.println("Part I: " + partI(room));
@@ -13,22 +24,22 @@ public class Day16 {
         }
     }
 
-    private static long partI(Room room) {
-        return energizedTiles(room, new Beam(new Pos(0, 0), Direction.RIGHT));
+    static long partI(Room room) {
+        return energizedTiles(room, 0, 0, Direction.RIGHT);
     }
 
-    private static long partII(Room room) {
+    static long partII(Room room) {
         long maxEnergizedTiles = 0;
 
         for (int x = 0; x < room.width(); x++) {
-            var top = energizedTiles(room, new Beam(new Pos(x, 0), Direction.DOWN));
-            var bottom = energizedTiles(room, new Beam(new Pos(x, room.height() - 1), Direction.UP));
+            var top = energizedTiles(room, x, 0, Direction.DOWN);
+            var bottom = energizedTiles(room, x, room.height() - 1, Direction.UP);
             maxEnergizedTiles = Math.max(Math.max(top, bottom), maxEnergizedTiles);
         }
 
-        for (int y = 0; y < room.height; y++) {
-            var left = energizedTiles(room, new Beam(new Pos(0, y), Direction.RIGHT));
-            var right = energizedTiles(room, new Beam(new Pos(room.width() - 1, y), Direction.LEFT));
+        for (int y = 0; y < room.height(); y++) {
+            var left = energizedTiles(room, 0, y, Direction.RIGHT);
+            var right = energizedTiles(room, room.width() - 1, y, Direction.LEFT);
             maxEnergizedTiles = Math.max(Math.max(left, right), maxEnergizedTiles);
         }
 
@@ -36,37 +47,96 @@ public class Day16 {
     }
 
     static Room parse(String input) {
-        var tiles = input.lines()
-                         .map(line -> line.chars()
-                                          .mapToObj(c -> switch (c) {
-                                              case '.' -> Tile.EMPTY;
-                                              case '/' -> Tile.F_MIRROR;
-                                              case '\\' -> Tile.B_MIRROR;
-                                              case '|' -> Tile.V_SLITTER;
-                                              case '-' -> Tile.H_SPLITTER;
-                                              default -> throw new RuntimeException();
-                                          })
-                                          .toArray(Tile[]::new))
-                         .toArray(Tile[][]::new);
-
-        return new Room(tiles, tiles[0].length, tiles.length);
+        return new Room(Grid.parse(input).padded(OUTSIDE));
+    }
+
+    static Room parse(AocInput input) {
+        return new Room(Grid.parse(input).padded(OUTSIDE));
+    }
+
+    // beams are followed as ints: the index of their tile times four plus the ordinal of their direction
+    static long energizedTiles(Room room, int x, int y, Direction dir) {
+        var grid = room.grid();
+        var offsets = offsets(grid);
+        var seen = new boolean[4 * grid.size()];
+        var energized = new boolean[grid.size()];
+        var beams = new int[64];
+        int size = 0;
+        long count = 0;
+
+        int start = grid.index(x, y) << 2 | dir.ordinal();
+        seen[start] = true;
+        beams[size++] = start;
+
+        while (size > 0) {
+            int beam = beams[--size];
+            int pos = beam >> 2;
+            var beamDir = Direction.values()[beam & 3];
+            Instrumentation.Counter.BEAM_STEPS.increment();
+
+            if (!energized[pos]) {
+                energized[pos] = true;
+                count++;
+            }
+
+            for (var next : exits(grid.get(pos), beamDir)) {
+                int nextPos = pos + offsets[next.ordinal()];
+                int nextBeam = nextPos << 2 | next.ordinal();
+
+                if (grid.get(nextPos) != OUTSIDE && !seen[nextBeam]) {
+                    seen[nextBeam] = true;
+
+                    if (size == beams.length) {
+                        beams = Arrays.copyOf(beams, 2 * size);
+                    }
+
+                    beams[size++] = nextBeam;
+                }
+            }
+        }
+
+        return count;
     }
 
-    static long energizedTiles(Room room, Beam beam) {
-        Set<Beam> beams = Set.of(beam);
-        Set<Beam> seen = new HashSet<>(beams);
-        long seenSizeBefore;
+    private static int[] offsets(Grid grid) {
+        var offsets = new int[4];
 
-        do {
-            seenSizeBefore = seen.size();
-            beams = beams.stream().flatMap(b -> b.move(room)).filter(seen::add).collect(Collectors.toSet());
-        } while (!beams.isEmpty() && seen.size() > seenSizeBefore);
+        for (var dir : Direction.values()) {
+            offsets[dir.ordinal()] = grid.offset(dir.dx, dir.dy);
+        }
 
-        return seen.stream().map(Beam::pos).distinct().count();
+        return offsets;
+    }
+
+    private static final byte OUTSIDE = 0;
+    private static final Direction[][] STRAIGHT = Stream.of(Direction.values())
+                                                        .map(dir -> new Direction[] {dir})
+                                                        .toArray(Direction[][]::new);
+    private static final Direction[][] SPLIT = Stream.of(Direction.values())
+                                                     .map(dir -> new Direction[] {dir.previous(), dir.next()})
+                                                     .toArray(Direction[][]::new);
+
+    static Direction[] exits(byte tile, Direction dir) {
+        return switch (tile) {
+            case '.' -> STRAIGHT[dir.ordinal()];
+            case '|' -> dir.isVertical() ? STRAIGHT[dir.ordinal()] : SPLIT[dir.ordinal()];
+            case '-' -> dir.isVertical() ? SPLIT[dir.ordinal()] : STRAIGHT[dir.ordinal()];
+            case '/' -> STRAIGHT[(dir.isVertical() ? dir.next() : dir.previous()).ordinal()];
+            case '\\' -> STRAIGHT[(dir.isVertical() ? dir.previous() : dir.next()).ordinal()];
+            default -> throw new IllegalArgumentException("Not a tile: " + (char) tile);
+        };
     }
 
     enum Direction {
-        LEFT, UP, RIGHT, DOWN;
+        LEFT(-1, 0), UP(0, -1), RIGHT(1, 0), DOWN(0, 1);
+
+        final int dx;
+        final int dy;
+
+        Direction(int dx, int dy) {
+            this.dx = dx;
+            this.dy = dy;
+        }
 
         boolean isVertical() {
             return this == UP || this == DOWN;
@@ -81,54 +151,20 @@ public class Day16 {
         }
     }
 
-    record Pos(int x, int y) {
-        Beam next(Direction dir) {
-            var nextPos = switch (dir) {
-                case LEFT -> new Pos(x - 1, y);
-                case UP -> new Pos(x, y - 1);
-                case RIGHT -> new Pos(x + 1, y);
-                case DOWN -> new Pos(x, y + 1);
-            };
-
-            return new Beam(nextPos, dir);
+    /**
+     * The contraption, surrounded by a border of OUTSIDE cells.
+     */
+    record Room(Grid grid) {
+        int width() {
+            return grid.width();
         }
-    }
 
-    record Beam(Pos pos, Direction dir) {
-        Stream<Beam> move(Room room) {
-            if (dir.isVertical()) {
-                return (switch (room.tile(pos)) {
-                    case EMPTY -> Stream.of(pos.next(dir));
-                    case V_SLITTER -> Stream.of(pos.next(dir));
-                    case H_SPLITTER -> Stream.of(pos.next(dir.previous()), pos.next(dir.next()));
-                    case F_MIRROR -> Stream.of(pos.next(dir.next()));
-                    case B_MIRROR -> Stream.of(pos.next(dir.previous()));
-                }).filter(beam -> room.isWithin(beam.pos()));
-            } else {
-                return (switch (room.tile(pos)) {
-                    case EMPTY -> Stream.of(pos.next(dir));
-                    case V_SLITTER -> Stream.of(pos.next(dir.previous()), pos.next(dir.next()));
-                    case H_SPLITTER -> Stream.of(pos.next(dir));
-                    case F_MIRROR -> Stream.of(pos.next(dir.previous()));
-                    case B_MIRROR -> Stream.of(pos.next(dir.next()));
-                }).filter(beam -> room.isWithin(beam.pos()));
-            }
+        int height() {
+            return grid.height();
         }
     }
 
-    record Room(Tile[][] tiles, int width, int height) {
-        boolean isWithin(Pos pos) {
-            return pos.x >= 0 && pos.x < tiles.length && pos.y >= 0 && pos.y < tiles[0].length;
-        }
-
-        Tile tile(Pos pos) {
-            return tiles[pos.y][pos.x];
-        }
-    }
-
-    enum Tile {EMPTY, V_SLITTER, H_SPLITTER, F_MIRROR, B_MIRROR}
-
-    private static final String TEST_INPUT = """
+    static final String TEST_INPUT = """
             .|...\\....
             |.-.\\.....
             .....|-...
@@ -140,7 +176,7 @@ public class Day16 {
             .|....-|.\\
             ..//.|....""";
 
-    private static final String INPUT = """
+    static final String INPUT = """
             \\..|...................|........\\..............\\.................-......./........./...\\..........-......./...
             ........../...-/......\\.|............../.................\\...........\\........-.........|.....\\.-.|...........
             ...............-...........|......|...|......../.......\\............../.................................../...
@@ -1,36 +1,80 @@
-import java.util.HashSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
-import java.util.stream.Stream;
 
 public class Day17 {
+    // every block still to be entered costs at least the cheapest heat loss in the city, which makes A* admissible
+    static final boolean A_STAR = Boolean.getBoolean("day17.astar");
+
+    static final Solver<City> SOLVER = Solver.of(Day17::parse, Day17::partI, Day17::partII);
+
     public static void main(String... args) {
+        if (List.of(args).contains("--compare")) {
+            compare();
+            return;
+        }
+
+        for (String input : List.of(TEST_INPUT, INPUT)) {
+            var city = parse(input);
+            System.out.println("Part I: " + partI(city));
+            System.out.println("Part II: " + partII(city));
+        }
+    }
+
+    static long partI(City city) {
+        return minimalHeatLoss(city, 1, 3);
+    }
+
+    static long partII(City city) {
+        return minimalHeatLoss(city, 4, 10);
+    }
+
+    static long minimalHeatLoss(City city, int min, int max) {
+        return search(city, min, max, A_STAR).distance();
+    }
+
+    static AocUtils.CompactGraph.Search search(City city, int min, int max, boolean aStar) {
+        var start = new Location(null, 0, city.topLeft());
+        Predicate<Location> isEnd = location -> location.block() == city.bottomRight();
+        var graph = graph(start, city, min, max);
+
+        if (aStar) {
+            long cheapest = city.cheapest();
+            return graph.aStar(start, isEnd,
+                    location -> cheapest * city.distance(location.block(), city.bottomRight()));
+        }
+
+        return graph.dijkstraSearch(start, isEnd);
+    }
+
+    // how many locations each search takes off its queue, for both parts of both inputs
+    static void compare() {
         for (String input : List.of(TEST_INPUT, INPUT)) {
             var city = parse(input);
-            var start = new Location(List.of(), city.topLeft());
-            Predicate<Location> isEnd = location -> location.block().equals(city.bottomRight());
-            System.out.println("Part I: " + graph(start, city, 1, 3).dijkstra(start, isEnd));
-            System.out.println("Part II: " + graph(start, city, 4, 10).dijkstra(start, isEnd));
+
+            for (int[] run : new int[][] {{1, 3}, {4, 10}}) {
+                var dijkstra = search(city, run[0], run[1], false);
+                var aStar = search(city, run[0], run[1], true);
+                System.out.printf("runs %d..%-2d heat loss %4d  expanded: Dijkstra %,9d  A* %,9d%n", run[0], run[1],
+                        dijkstra.distance(), dijkstra.expanded(), aStar.expanded());
+            }
         }
     }
 
     static AocUtils.Graph<Location> graph(Location location, City city, int min, int max) {
         var graph = new AocUtils.Graph<Location>();
-        addEdges(graph, location, city, min, max, new HashSet<>());
+        addEdges(graph, location, city, min, max, new LongSet());
         return graph;
     }
 
-    static void addEdges(AocUtils.Graph<Location> g, Location location, City city, int min, int max, HashSet<Location> seen) {
+    static void addEdges(AocUtils.Graph<Location> g, Location location, City city, int min, int max, LongSet seen) {
         for (var dir : Direction.values()) {
             for (int steps = 1; steps <= min; steps++) {
                 var nextLocation = location.move(steps, max, dir, city);
 
-                if (nextLocation != null && nextLocation.directions().size() >= min) {
+                if (nextLocation != null && nextLocation.run() >= min) {
                     g.addEdge(location, nextLocation, location.heatLoss(steps, dir, city));
 
-                    if (seen.add(nextLocation)) {
+                    if (seen.add(nextLocation.key())) {
                         addEdges(g, nextLocation, city, min, max, seen);
                     }
                 }
@@ -38,55 +82,81 @@ public class Day17 {
         }
     }
 
-    record City(List<List<CityBlock>> blocks) {
-        CityBlock next(CityBlock pos, Direction dir) {
-            try {
-                return switch (dir) {
-                    case LEFT -> blocks.get(pos.y()).get(pos.x() - 1);
-                    case UP -> blocks.get(pos.y() - 1).get(pos.x());
-                    case RIGHT -> blocks.get(pos.y()).get(pos.x() + 1);
-                    case DOWN -> blocks.get(pos.y() + 1).get(pos.x());
-                };
-            } catch (IndexOutOfBoundsException e) {
-                return null;
-            }
+    /**
+     * The heat loss of every block as a digit, surrounded by a border of OUTSIDE blocks.
+     */
+    record City(Grid grid) {
+        static final byte OUTSIDE = 0;
+
+        int next(int block, Direction dir) {
+            return block + grid.offset(dir.dx, dir.dy);
         }
 
-        CityBlock topLeft() {
-            return blocks.get(0).get(0);
+        boolean contains(int block) {
+            return grid.get(block) != OUTSIDE;
         }
 
-        CityBlock bottomRight() {
-            return blocks.get(blocks.size() - 1).get(blocks.get(0).size() - 1);
+        int heatLoss(int block) {
+            return grid.get(block) - '0';
+        }
+
+        int topLeft() {
+            return grid.index(0, 0);
+        }
+
+        int bottomRight() {
+            return grid.index(grid.width() - 1, grid.height() - 1);
+        }
+
+        int distance(int from, int to) {
+            return Math.abs(grid.x(from) - grid.x(to)) + Math.abs(grid.y(from) - grid.y(to));
+        }
+
+        // scans the whole city, so call it once per search rather than once per heuristic estimate
+        int cheapest() {
+            int cheapest = 9;
+
+            for (int y = 0; y < grid.height(); y++) {
+                for (int x = 0; x < grid.width(); x++) {
+                    cheapest = Math.min(cheapest, heatLoss(grid.index(x, y)));
+                }
+            }
+
+            return cheapest;
         }
     }
 
-    record Location(List<Direction> directions, CityBlock block) {
-        Location move(int steps, int maxDirections, Direction dir, City city) {
-            if (!directions.isEmpty() && dir.isOpposite(directions.get(0))) {
+    /**
+     * A block entered after a run of steps in the same direction; the start has no direction and a run of 0.
+     */
+    record Location(Direction direction, int run, int block) {
+        Location move(int steps, int maxRun, Direction dir, City city) {
+            if (direction != null && dir.isOpposite(direction)) {
                 return null;
             }
 
             var newBlock = block;
 
-            for (int i = 0; i < steps && newBlock != null; i++) {
+            for (int i = 0; i < steps && city.contains(newBlock); i++) {
                 newBlock = city.next(newBlock, dir);
             }
 
-            if (newBlock == null) {
+            if (!city.contains(newBlock)) {
                 return null;
             }
 
-            List<Direction> newDirections = Stream
-                    .concat(Stream.generate(() -> dir).limit(steps), directions.stream())
-                    .takeWhile(d -> d == dir)
-                    .toList();
+            int newRun = dir == direction ? run + steps : steps;
 
-            if (newDirections.size() > maxDirections) {
+            if (newRun > maxRun) {
                 return null;
             }
 
-            return new Location(newDirections, newBlock);
+            return new Location(dir, newRun, newBlock);
+        }
+
+        // the block in the high half, the run and the direction (4 for none) in the low one
+        long key() {
+            return (long) block << 32 | run << 3 | (direction == null ? 4 : direction.ordinal());
         }
 
         int heatLoss(int dist, Direction dir, City city) {
@@ -94,8 +164,8 @@ public class Day17 {
             var b = block;
 
             for (int i = 0; i < dist; i++) {
-                b = Objects.requireNonNull(city.next(b, dir));
-                total += b.heatLoss;
+                b = city.next(b, dir);
+                total += city.heatLoss(b);
             }
 
             return total;
@@ -103,7 +173,15 @@ public class Day17 {
     }
 
     enum Direction {
-        LEFT, UP, RIGHT, DOWN;
+        LEFT(-1, 0), UP(0, -1), RIGHT(1, 0), DOWN(0, 1);
+
+        final int dx;
+        final int dy;
+
+        Direction(int dx, int dy) {
+            this.dx = dx;
+            this.dy = dy;
+        }
 
         public boolean isOpposite(Direction direction) {
             return Direction.values()[(ordinal() + 2) % 4].equals(direction);
@@ -111,18 +189,10 @@ public class Day17 {
     }
 
     static City parse(String input) {
-        AtomicInteger y = new AtomicInteger(0);
-        return new City(input.lines().map(line -> {
-            AtomicInteger x = new AtomicInteger(0);
-            var arr = line.chars().mapToObj(c -> new CityBlock(x.getAndIncrement(), y.get(), c - '0')).toList();
-            y.getAndIncrement();
-            return arr;
-        }).toList());
+        return new City(Grid.parse(input).padded(City.OUTSIDE));
     }
 
-    record CityBlock(int x, int y, int heatLoss) {}
-
-    private static final String TEST_INPUT = """
+    static final String TEST_INPUT = """
             2413432311323
             3215453535623
             3255245654254
@@ -137,7 +207,7 @@ public class Day17 {
             2546548887735
             4322674655533""";
 
-    private static final String INPUT = """
+    static final String INPUT = """
             221132133212311232212242114141432412314342344414511125222353555313224255144252512523312445214535353432244331111334213433323123231313121233312
             112212122221212221323211422324232212343312251322531451424155421523333223554153341151413325324333253423134212341243431224144312132322221323221
             213313213322123132231341233221443443232132311221233553234412331241455332545534513324434532554435513521433123414411413332112232121311231333313
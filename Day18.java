@@ -1,4 +1,3 @@
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -6,6 +5,8 @@ import java.util.TreeSet;
 import java.util.stream.Stream;
 
 public class Day18 {
+    static final Solver<String> SOLVER = Solver.of(input -> input, Day18::partI, Day18::partII);
+
     public static void main(String... args) {
         for (var input : List.of(TEST_INPUT, INPUT)) {
             System.out.println("Part I: " + partI(input));
@@ -22,11 +23,11 @@ public class Day18 {
     private static long shoelaceFormula(List<Instruction> instructions) {
         long interiorArea = 0;
         long trenchArea = 0;
-        Pos pos = new Pos(0, 0);
+        long pos = Coords.pack(0, 0);
 
         for (var instr : instructions) {
-            Pos next = pos.move(instr.direction(), instr.distance());
-            interiorArea += pos.x() * (long) next.y() - pos.y() * (long) next.x();
+            long next = instr.direction().move(pos, instr.distance());
+            interiorArea += Coords.x(pos) * (long) Coords.y(next) - Coords.y(pos) * (long) Coords.x(next);
             trenchArea += instr.distance();
             pos = next;
         }
@@ -74,10 +75,10 @@ public class Day18 {
     }
 
     static Trench trench(List<Instruction> instructions) {
-        var edges = new HashMap<Pos, Tile>();
+        var edges = new LongMap<Tile>();
         var cornerXCoords = new TreeSet<Integer>();
         var cornerYCoords = new TreeSet<Integer>();
-        var pos = new Pos(0, 0);
+        long pos = Coords.pack(0, 0);
 
         edges.put(pos, Tile.S);
         int minX = 0;
@@ -89,7 +90,7 @@ public class Day18 {
             var instr = instructions.get(ix);
 
             for (var step = 0; step < instr.distance(); step++) {
-                pos = pos.move(instr.direction());
+                pos = instr.direction().move(pos, 1);
                 var exit1 = instr.direction().opposite();
                 var exit2 = step < instr.distance() - 1
                             ? instr.direction()
@@ -98,19 +99,22 @@ public class Day18 {
                 var tile = Tile.find(exit1, exit2);
                 edges.put(pos, tile);
 
+                int x = Coords.x(pos);
+                int y = Coords.y(pos);
+
                 if (tile != Tile.NS && tile != Tile.EW) {
-                    cornerYCoords.add(pos.y());
-                    cornerXCoords.add(pos.x());
+                    cornerYCoords.add(y);
+                    cornerXCoords.add(x);
                 }
 
-                minX = Math.min(minX, pos.x());
-                maxX = Math.max(maxX, pos.x());
-                minY = Math.min(minY, pos.y());
-                maxY = Math.max(maxY, pos.y());
+                minX = Math.min(minX, x);
+                maxX = Math.max(maxX, x);
+                minY = Math.min(minY, y);
+                maxY = Math.max(maxY, y);
             }
         }
 
-        return new Trench(edges, cornerXCoords, cornerYCoords, new Pos(minX, minY), new Pos(maxX, maxY));
+        return new Trench(edges, cornerXCoords, cornerYCoords, Coords.pack(minX, minY), Coords.pack(maxX, maxY));
     }
 
     static long lagoonArea(Trench trench) {
@@ -118,7 +122,7 @@ public class Day18 {
         long lastRowSize = 0;
         var inside = false;
 
-        for (var y = trench.min().y(); y <= trench.max().y(); y++) {
+        for (var y = Coords.y(trench.min()); y <= Coords.y(trench.max()); y++) {
             if (!trench.cornerYs().contains(y) && !trench.cornerYs().contains(y - 1)) {
                 int nextY = Objects.requireNonNullElse(trench.cornerYs().ceiling(y), Integer.MAX_VALUE);
                 size += lastRowSize * (nextY - y);
@@ -126,8 +130,8 @@ public class Day18 {
             } else {
                 lastRowSize = 0;
 
-                for (var x = trench.min().x(); x <= trench.max().x(); ) {
-                    var pos = new Pos(x, y);
+                for (var x = Coords.x(trench.min()); x <= Coords.x(trench.max()); ) {
+                    long pos = Coords.pack(x, y);
 
                     if (!trench.cornerXs().contains(x)) {
                         int nextX = Objects.requireNonNullElse(trench.cornerXs().ceiling(x), Integer.MAX_VALUE);
@@ -161,22 +165,10 @@ public class Day18 {
 
     record Instruction(Direction direction, int distance) {}
 
-    record Trench(Map<Pos, Tile> edges, TreeSet<Integer> cornerXs, TreeSet<Integer> cornerYs, Pos min, Pos max) {}
-
-    record Pos(int x, int y) {
-        Pos move(Direction direction) {
-            return move(direction, 1);
-        }
-
-        public Pos move(Direction direction, int distance) {
-            return switch (direction) {
-                case UP -> new Pos(x, y - distance);
-                case RIGHT -> new Pos(x + distance, y);
-                case DOWN -> new Pos(x, y + distance);
-                case LEFT -> new Pos(x - distance, y);
-            };
-        }
-    }
+    /**
+     * The edges of the trench by their packed {@link Coords}, and its bounds, also packed.
+     */
+    record Trench(LongMap<Tile> edges, TreeSet<Integer> cornerXs, TreeSet<Integer> cornerYs, long min, long max) {}
 
     enum Tile {
         NS, EW, NE, NW, SW, SE, G, S;
@@ -209,9 +201,14 @@ public class Day18 {
         public Direction opposite() {
             return values()[(ordinal() + 2) % 4];
         }
+
+        // the directions are in the order of Coords.DX and Coords.DY
+        long move(long pos, int distance) {
+            return Coords.step(pos, Coords.DX[ordinal()] * distance, Coords.DY[ordinal()] * distance);
+        }
     }
 
-    private static final String TEST_INPUT = """
+    static final String TEST_INPUT = """
             R 6 (#70c710)
             D 5 (#0dc571)
             L 2 (#5713f0)
@@ -227,7 +224,7 @@ public class Day18 {
             L 2 (#015232)
             U 2 (#7a21e3)""";
 
-    private static final String INPUT = """
+    static final String INPUT = """
             L 4 (#3b05c0)
             U 7 (#9ccb53)
             L 7 (#b37500)
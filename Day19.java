@@ -5,22 +5,27 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 public class Day19 {
+    static final Solver<Puzzle> SOLVER = Solver.of(Day19::parse, Day19::partI, Day19::partII);
+
     public static void main(String... args) {
         for (String input : List.of(TEST_INPUT, INPUT)) {
-            var sections = input.split("\n\n");
-            var workflows = parseWorkflows(sections[0]);
-            var partList = parseParts(sections[1]);
-            System.out.println("Part I: " + partI(partList, workflows));
-            System.out.println("Part II: " + partII(workflows));
+            var puzzle = parse(input);
+            System.out.println("Part I: " + partI(puzzle));
+            System.out.println("Part II: " + partII(puzzle));
         }
     }
 
-    private static long partI(List<Part> partList, Map<String, Workflow> workflows) {
-        return partList.stream().filter(p -> p.accepted(workflows)).mapToLong(Part::sum).sum();
+    static Puzzle parse(String input) {
+        var sections = input.split("\n\n");
+        return new Puzzle(parseWorkflows(sections[0]), parseParts(sections[1]));
+    }
+
+    static long partI(Puzzle puzzle) {
+        return puzzle.parts().stream().filter(p -> p.accepted(puzzle.workflows())).mapToLong(Part::sum).sum();
     }
 
-    private static long partII(Map<String, Workflow> workflows) {
-        return acceptedCombinations(workflows, "in", new Range());
+    static long partII(Puzzle puzzle) {
+        return acceptedCombinations(puzzle.workflows(), "in", new Range());
     }
 
     private static Map<String, Workflow> parseWorkflows(String workflowsSection) {
@@ -126,6 +131,8 @@ public class Day19 {
         }
     }
 
+    record Puzzle(Map<String, Workflow> workflows, List<Part> parts) {}
+
     record Workflow(String name, List<Rule> rules) {}
 
     record Rule(String variable, boolean lessThan, int value, String destination) {
@@ -7,30 +7,26 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 public class Day20 {
+    static final Solver<Machine> SOLVER = Solver.of(Day20::parse, Day20::partI, Day20::partII);
+
     public static void main(String... args) {
         for (String input : List.of(TEST_INPUT, TEST_INPUT2, INPUT)) {
-            var modules = parse(input);
-            var states = new HashMap<String, State>();
-
-            for (var m : modules.values()) {
-                for (var r : m.receivers()) {
-                    states.put(r, states.getOrDefault(r, State.OFF).updateMemory(m.name(), Pulse.LOW));
-                }
-            }
-
-            partI(modules, states);
-            partII(modules, states);
+            var machine = parse(input);
+            System.out.println("Part I: " + partI(machine));
+            System.out.println("Part II: " + partII(machine));
         }
     }
 
-    private static void partI(Map<String, Module> modules, Map<String, State> states) {
+    static long partI(Machine machine) {
+        var states = new HashMap<>(machine.states());
         long low = 0;
         long high = 0;
 
         for (int pushes = 0; pushes < 1000; pushes++) {
-            List<Signal> signals = pushButton(modules, states);
+            List<Signal> signals = pushButton(machine.modules(), states);
 
             for (var signal : signals) {
                 if (signal.pulse() == Pulse.LOW) {
@@ -41,23 +37,34 @@ public class Day20 {
             }
         }
 
-        System.out.println("Part I: " + low * high);
+        return low * high;
     }
 
-    static void partII(Map<String, Module> modules, Map<String, State> states) {
-        var dependencies = new HashMap<String, Set<String>>();
+    static long partII(Machine machine) {
+        var states = new HashMap<>(machine.states());
+        var dependencies = new Dependencies(List.copyOf(machine.modules().keySet()), new HashMap<>());
 
-        for (var m : modules.values()) {
-            for (var r : m.receivers()) {
-                dependencies.merge(r, Set.of(m.name()), AocUtils::union);
+        for (int sender = 0; sender < dependencies.names().size(); sender++) {
+            for (var r : machine.modules().get(dependencies.names().get(sender)).receivers()) {
+                dependencies.senders().merge(r, IdSet.of(sender), IdSet::addAll);
             }
         }
 
-        System.out.println("Part II: " + cycleLength("rx", states, modules, dependencies, new HashSet<>(), new HashMap<>()));
+        return cycleLength("rx", states, machine.modules(), dependencies, new HashSet<>(), new HashMap<>());
+    }
+
+    /**
+     * The senders of every module, as indexes into the names of all modules.
+     */
+    record Dependencies(List<String> names, Map<String, IdSet> senders) {
+        Stream<String> of(String name) {
+            var ids = senders.get(name);
+            return ids == null ? Stream.empty() : ids.stream().mapToObj(names::get);
+        }
     }
 
     static long cycleLength(String name, Map<String, State> states, Map<String, Module> modules,
-                            Map<String, Set<String>> dependencies, Set<String> seen, Map<String, Long> cache) {
+                            Dependencies dependencies, Set<String> seen, Map<String, Long> cache) {
 
         if (cache.containsKey(name)) {
             return cache.get(name);
@@ -67,8 +74,7 @@ public class Day20 {
 
         if (seen.add(name)) {
             cycleLength = AocUtils.lcm(dependencies
-                    .getOrDefault(name, Set.of())
-                    .stream()
+                    .of(name)
                     .mapToLong(dep -> cycleLength(dep, states, modules, dependencies, seen, cache)));
         } else { // cyclic dependency - cannot calculate
             var original = new HashMap<>(states);
@@ -89,7 +95,7 @@ public class Day20 {
         return cycleLength;
     }
 
-    static Set<String> allDependencies(String name, Map<String, Set<String>> dependencies) {
+    static Set<String> allDependencies(String name, Dependencies dependencies) {
         var seen = new HashSet<String>();
         var queue = new LinkedList<String>();
         queue.add(name);
@@ -98,7 +104,7 @@ public class Day20 {
             var dep = queue.poll();
 
             if (seen.add(dep)) {
-                queue.addAll(dependencies.getOrDefault(dep, Set.of()));
+                dependencies.of(dep).forEach(queue::add);
             }
         }
 
@@ -117,6 +123,7 @@ public class Day20 {
         while (!queue.isEmpty()) {
             Signal signal = queue.poll();
             history.add(signal);
+            Instrumentation.Counter.PULSES.increment();
 
             if (!signal.receiver().equals("output")) {
                 if (modules.containsKey(signal.receiver())) {
@@ -135,8 +142,8 @@ public class Day20 {
         return history;
     }
 
-    static Map<String, Module> parse(String input) {
-        return input
+    static Machine parse(String input) {
+        var modules = input
                 .lines()
                 .map(line -> {
                     var parts = line.split(" -> ");
@@ -154,8 +161,20 @@ public class Day20 {
                     throw new IllegalArgumentException();
                 })
                 .collect(Collectors.toMap(Module::name, m -> m));
+
+        var states = new HashMap<String, State>();
+
+        for (var m : modules.values()) {
+            for (var r : m.receivers()) {
+                states.put(r, states.getOrDefault(r, State.OFF).updateMemory(m.name(), Pulse.LOW));
+            }
+        }
+
+        return new Machine(modules, states);
     }
 
+    record Machine(Map<String, Module> modules, Map<String, State> states) {}
+
     record State(boolean on, Map<String, Pulse> memory) {
         static final State OFF = new State(false, new HashMap<>());
 
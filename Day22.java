@@ -1,27 +1,38 @@
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 public class Day22 {
+    static final Solver<Tower> SOLVER = Solver.of(input -> tower(parse(input)), Day22::partI, Day22::partII);
+
     public static void main(String... args) {
+        if (args.length > 0) {
+            try (var input = AocInput.open(Path.of(args[0]))) {
+                var tower = tower(parse(input));
+                System.out.println("Part I: " + partI(tower));
+                System.out.println("Part II: " + partII(tower));
+            }
+
+            return;
+        }
+
         for (String input : List.of(TEST_INPUT, INPUT)) {
-            var bricks = settle(parse(input));
-            var irremovable = irremovableBricks(bricks);
-            partI(bricks, irremovable);
-            partII(bricks, irremovable);
+            var tower = tower(parse(input));
+            System.out.println("Part I: " + partI(tower));
+            System.out.println("Part II: " + partII(tower));
         }
     }
 
     static List<Brick> parse(String input) {
-        Function<String, Pos> parsePos = pos -> {
+        Function<String, Long> parsePos = pos -> {
             var coords = Stream.of(pos.split(",")).map(Integer::parseInt).toList();
-            return new Pos(coords.get(0), coords.get(1), coords.get(2));
+            return Coords.pack(coords.get(0), coords.get(1), coords.get(2));
         };
 
         AtomicInteger nextName = new AtomicInteger('A');
@@ -34,6 +45,21 @@ public class Day22 {
         return input.lines().map(parseLine).sorted(Comparator.comparingInt(Brick::minZ)).toList();
     }
 
+    static List<Brick> parse(AocInput input) {
+        var bricks = new ArrayList<Brick>();
+
+        input.lines(line -> {
+            if (!line.isEmpty()) {
+                long start = Coords.pack(line.nextInt(), line.nextInt(), line.nextInt());
+                long end = Coords.pack(line.nextInt(), line.nextInt(), line.nextInt());
+                bricks.add(new Brick((char) ('A' + bricks.size()), start, end));
+            }
+        });
+
+        bricks.sort(Comparator.comparingInt(Brick::minZ));
+        return bricks;
+    }
+
     static List<Brick> settle(List<Brick> bricks) {
         while (true) {
             var next = new ArrayList<Brick>();
@@ -52,61 +78,74 @@ public class Day22 {
         }
     }
 
-    static Map<Brick, Set<Brick>> irremovableBricks(List<Brick> bricks) {
-        var restsOn = new HashMap<Brick, Set<Brick>>();
+    /**
+     * Every brick that is the only support of some other bricks, with the indexes of those bricks in the list.
+     */
+    static Map<Brick, IdSet> irremovableBricks(List<Brick> bricks) {
+        var restsOn = new HashMap<Brick, IdSet>();
 
         for (var restingOn : bricks) {
-            for (var restedOn : bricks) {
-                if (restingOn != restedOn && restingOn.restsOn(restedOn)) {
-                    restsOn.merge(restingOn, Set.of(restedOn), AocUtils::union);
+            for (int restedOn = 0; restedOn < bricks.size(); restedOn++) {
+                if (restingOn != bricks.get(restedOn) && restingOn.restsOn(bricks.get(restedOn))) {
+                    restsOn.computeIfAbsent(restingOn, b -> new IdSet()).add(restedOn);
                 }
             }
         }
 
-        var irremovables = new HashMap<Brick, Set<Brick>>();
+        var irremovables = new HashMap<Brick, IdSet>();
 
-        for (var brick : bricks) {
-            if (restsOn.getOrDefault(brick, Set.of()).size() == 1) {
-                var irremovable = restsOn.get(brick).iterator().next();
-                irremovables.merge(irremovable, Set.of(brick), AocUtils::union);
+        for (int brick = 0; brick < bricks.size(); brick++) {
+            var supports = restsOn.get(bricks.get(brick));
+
+            if (supports != null && supports.cardinality() == 1) {
+                irremovables.computeIfAbsent(bricks.get(supports.first()), b -> new IdSet()).add(brick);
             }
         }
 
         return irremovables;
     }
 
-    static void partI(List<Brick> bricks, Map<Brick, Set<Brick>> irremovables) {
-        var count = bricks.stream().filter(b -> !irremovables.containsKey(b)).count();
-        System.out.println("Part I: " + count);
+    static Tower tower(List<Brick> bricks) {
+        var settled = settle(bricks);
+        return new Tower(settled, irremovableBricks(settled));
+    }
+
+    static long partI(Tower tower) {
+        return tower.bricks().stream().filter(b -> !tower.irremovables().containsKey(b)).count();
     }
 
-    static void partII(List<Brick> bricks, Map<Brick, Set<Brick>> irremovables) {
-        var count = bricks
+    static long partII(Tower tower) {
+        var bricks = tower.bricks();
+
+        return bricks
                 .stream()
-                .filter(irremovables::containsKey)
+                .filter(tower.irremovables()::containsKey)
                 .mapToLong(brick -> {
                     var without = bricks.stream().filter(b -> !b.equals(brick)).toList();
                     var settled = settle(without);
                     return without.stream().filter(c -> !settled.contains(c)).count();
                 })
                 .sum();
-
-        System.out.println("Part II: " + count);
     }
 
-    record Brick(char name, Pos start, Pos end) {
+    record Tower(List<Brick> bricks, Map<Brick, IdSet> irremovables) {}
+
+    /**
+     * A brick from one end to the other, both packed by {@link Coords#pack(int, int, int)}.
+     */
+    record Brick(char name, long start, long end) {
         int minZ() {
-            return Math.min(start.z, end.z);
+            return Math.min(Coords.z3(start), Coords.z3(end));
         }
 
         boolean isAboveGround() {
-            return start.z() > 0 && end.z() > 0;
+            return Coords.z3(start) > 0 && Coords.z3(end) > 0;
         }
 
         boolean overlap(Brick b) {
-            return overlapRange(b.start.x, b.end.x, start.x, end.x) &&
-                   overlapRange(b.start.y, b.end.y, start.y, end.y) &&
-                   overlapRange(b.start.z, b.end.z, start.z, end.z);
+            return overlapRange(Coords.x3(b.start), Coords.x3(b.end), Coords.x3(start), Coords.x3(end)) &&
+                   overlapRange(Coords.y3(b.start), Coords.y3(b.end), Coords.y3(start), Coords.y3(end)) &&
+                   overlapRange(Coords.z3(b.start), Coords.z3(b.end), Coords.z3(start), Coords.z3(end));
         }
 
         private static boolean overlapRange(int a1, int a2, int b1, int b2) {
@@ -122,13 +161,7 @@ public class Day22 {
         }
 
         private Brick moveDown() {
-            return new Brick(name, start.down(), end.down());
-        }
-    }
-
-    record Pos(int x, int y, int z) {
-        Pos down() {
-            return new Pos(x, y, z - 1);
+            return new Brick(name, Coords.step(start, 0, 0, -1), Coords.step(end, 0, 0, -1));
         }
     }
 
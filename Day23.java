@@ -1,13 +1,8 @@
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
-import java.util.stream.Stream;
 
 public class Day23 {
+    static final Solver<HikingMap> SOLVER = Solver.of(Day23::parse, Day23::partI, Day23::partII);
+
     public static void main(String... args) {
         for (String input : List.of(TEST_INPUT, INPUT)) {
             var map = parse(input);
@@ -17,19 +12,21 @@ public class Day23 {
     }
 
     static long partI(HikingMap map) {
-        return longestDownhillPath(map.start(), new HashSet<>(), map);
+        return longestDownhillPath(map.start(), new boolean[map.grid().size()], map);
     }
 
-    static long longestDownhillPath(Pos pos, Set<Pos> visited, HikingMap map) {
-        if (pos.equals(map.end())) {
+    static long longestDownhillPath(int pos, boolean[] visited, HikingMap map) {
+        if (pos == map.end()) {
             return 0;
         }
 
-        visited.add(pos);
+        visited[pos] = true;
         long max = Long.MIN_VALUE;
 
-        for (Pos next : map.downhillNeighbors(pos).toList()) {
-            if (!visited.contains(next)) {
+        for (int direction = 0; direction < 4; direction++) {
+            int next = map.downhillNeighbor(pos, direction);
+
+            if (next >= 0 && !visited[next]) {
                 long distance = 1 + longestDownhillPath(next, visited, map);
 
                 if (distance > max) {
@@ -38,104 +35,113 @@ public class Day23 {
             }
         }
 
-        visited.remove(pos);
+        visited[pos] = false;
         return max;
     }
 
     static long partII(HikingMap map) {
-        Set<Pos> nodes = new LinkedHashSet<>();
-        nodes.add(map.start());
-        List<Pos> neighbors = map.allNeighbors(map.start()).toList();
-        var graph = new AocUtils.Graph<Pos>();
-        junctions(graph, map.start(), neighbors, map, new HashSet<>(), nodes);
+        var nodes = new boolean[map.grid().size()];
+        nodes[map.start()] = true;
+        var visited = new boolean[map.grid().size()];
+        var graph = new AocUtils.Graph<Integer>();
+        var neighbors = new int[4];
+
+        for (int i = 0, count = map.openNeighbors(map.start(), visited, neighbors); i < count; i++) {
+            junctions(graph, map.start(), neighbors[i], map, visited, nodes);
+        }
+
         return graph.longestPath(map.start(), map.end());
     }
 
-    static void junctions(AocUtils.Graph<Pos> graph, Pos start, List<Pos> neighbors, HikingMap map, Set<Pos> visited,
-                          Set<Pos> nodes) {
+    // follows the trail from start through first to the next junction or dead end, and on from there
+    static void junctions(AocUtils.Graph<Integer> graph, int start, int first, HikingMap map, boolean[] visited,
+                          boolean[] nodes) {
 
+        var neighbors = new int[4];
+        neighbors[0] = first;
+        int count = 1;
         int length = 0;
-        Pos end = start;
+        int end = start;
 
-        while (neighbors.size() == 1) {
+        while (count == 1) {
             length++;
-            visited.add(end);
-            end = neighbors.get(0);
-            neighbors = map.allNeighbors(end).filter(n -> !visited.contains(n)).toList();
+            visited[end] = true;
+            end = neighbors[0];
+            count = map.openNeighbors(end, visited, neighbors);
         }
 
         graph.addEdge(start, end, length);
         graph.addEdge(end, start, length);
 
-        if (nodes.add(end)) {
-            for (Pos n : neighbors) {
-                if (!visited.contains(n)) {
-                    junctions(graph, end, List.of(n), map, visited, nodes);
+        if (!nodes[end]) {
+            nodes[end] = true;
+
+            for (int i = 0; i < count; i++) {
+                if (!visited[neighbors[i]]) {
+                    junctions(graph, end, neighbors[i], map, visited, nodes);
                 }
             }
         }
     }
 
     static HikingMap parse(String input) {
-        Map<Pos, Symbol> symbols = new HashMap<>();
-        var lines = input.lines().toList();
-
-        for (int y = 0; y < lines.size(); y++) {
-            for (int x = 0; x < lines.get(y).length(); x++) {
-                var pos = new Pos(x, y);
-                var symbol = switch (lines.get(y).charAt(x)) {
-                    case '#' -> null;
-                    case '.' -> Symbol.P;
-                    case '>' -> Symbol.SE;
-                    case '<' -> Symbol.SW;
-                    case '^' -> Symbol.SN;
-                    case 'v' -> Symbol.SS;
-                    default -> throw new IllegalArgumentException();
-                };
-
-                if (symbol != null) {
-                    symbols.put(pos, symbol);
-                }
-            }
+        var grid = Grid.parse(input).padded(FOREST);
+        int start = grid.index(0, 0);
+        int end = grid.index(grid.width() - 1, grid.height() - 1);
+
+        while (grid.get(start) == FOREST) {
+            start++;
+        }
+
+        while (grid.get(end) == FOREST) {
+            end--;
         }
 
-        var start = symbols.keySet().stream().min(Comparator.comparingInt(Pos::y)).orElseThrow();
-        var end = symbols.keySet().stream().max(Comparator.comparingInt(Pos::y)).orElseThrow();
-        return new HikingMap(symbols, start, end);
+        return new HikingMap(grid, start, end);
     }
 
-    record HikingMap(Map<Pos, Symbol> symbols, Pos start, Pos end) {
-        Stream<Pos> downhillNeighbors(Pos pos) {
-            Stream<Pos> neighbors = switch (symbols.get(pos)) {
-                case P -> Stream.of(Direction.values()).map(pos::step);
-                case SN -> Stream.of(pos.step(Direction.N));
-                case SE -> Stream.of(pos.step(Direction.E));
-                case SS -> Stream.of(pos.step(Direction.S));
-                case SW -> Stream.of(pos.step(Direction.W));
-            };
+    static final byte FOREST = '#';
 
-            return neighbors.filter(symbols::containsKey);
+    /**
+     * The trails, surrounded by a border of forest.
+     */
+    record HikingMap(Grid grid, int start, int end) {
+        /**
+         * The neighbor in the given direction (0 to 3 for N, E, S and W) if it is open and the trail may be left that
+         * way, which a slope allows only downhill; -1 otherwise.
+         */
+        int downhillNeighbor(int pos, int direction) {
+            return switch (grid.get(pos)) {
+                case '.' -> open(grid.neighbor(pos, direction));
+                case '^', '>', 'v', '<' -> grid.get(pos) == SLOPES[direction] ? open(grid.neighbor(pos, direction)) : -1;
+                default -> throw new IllegalArgumentException("Not a trail: " + (char) grid.get(pos));
+            };
         }
 
-        Stream<Pos> allNeighbors(Pos pos) {
-            return Stream.of(Direction.values()).map(pos::step).filter(symbols::containsKey);
+        private int open(int pos) {
+            return grid.get(pos) != FOREST ? pos : -1;
         }
-    }
 
-    record Pos(int x, int y) {
-        Pos step(Direction d) {
-            return switch (d) {
-                case N -> new Pos(x, y - 1);
-                case E -> new Pos(x + 1, y);
-                case S -> new Pos(x, y + 1);
-                case W -> new Pos(x - 1, y);
-            };
+        /**
+         * Puts the open neighbors not yet visited, slopes or not, into the array and returns how many there are.
+         */
+        int openNeighbors(int pos, boolean[] visited, int[] neighbors) {
+            int count = 0;
+
+            for (int direction = 0; direction < 4; direction++) {
+                int next = grid.neighbor(pos, direction);
+
+                if (grid.get(next) != FOREST && !visited[next]) {
+                    neighbors[count++] = next;
+                }
+            }
+
+            return count;
         }
     }
 
-    enum Symbol {P, SN, SW, SE, SS}
-
-    enum Direction {N, E, S, W}
+    // the slope down each way, in the order of Grid.neighborOffsets: N, E, S, W
+    static final byte[] SLOPES = {'^', '>', 'v', '<'};
 
     static final String TEST_INPUT = """
             #.#####################
@@ -1,13 +1,31 @@
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.DoublePredicate;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 public class Day24 {
+    static final DoublePredicate TEST_AREA = c -> c >= 7 && c <= 27;
+    static final DoublePredicate AREA = c -> c >= 200000000000000.0 && c <= 400000000000000.0;
+    static final Solver<List<Stone>> TEST_SOLVER = Solver.of(Day24::parse, stones -> partI(stones, TEST_AREA),
+            Day24::partII);
+    static final Solver<List<Stone>> SOLVER = Solver.of(Day24::parse, stones -> partI(stones, AREA), Day24::partII);
+
     public static void main(String... args) {
-        System.out.println("Part I: " + partI(parse(TEST_INPUT), c -> c >= 7 && c <= 27));
+        if (args.length > 0) {
+            try (var input = AocInput.open(Path.of(args[0]))) {
+                var stones = parse(input);
+                System.out.println("Part I: " + partI(stones, AREA));
+                System.out.println("Part II: " + partII(stones));
+            }
+
+            return;
+        }
+
+        System.out.println("Part I: " + partI(parse(TEST_INPUT), TEST_AREA));
         System.out.println("Part II: " + partII(parse(TEST_INPUT)));
-        System.out.println("Part I: " + partI(parse(INPUT), c -> c >= 200000000000000.0 && c <= 400000000000000.0));
+        System.out.println("Part I: " + partI(parse(INPUT), AREA));
         System.out.println("Part II: " + partII(parse(INPUT)));
     }
 
@@ -23,6 +41,20 @@ public class Day24 {
                     .map(vs -> new Stone(new Pos(vs[0], vs[1], vs[2]), new Velocity(vs[3], vs[4], vs[5]))).toList();
     }
 
+    static List<Stone> parse(AocInput input) {
+        var stones = new ArrayList<Stone>();
+
+        input.lines(line -> {
+            if (!line.isEmpty()) {
+                var pos = new Pos(line.nextLong(), line.nextLong(), line.nextLong());
+                var velocity = new Velocity(line.nextLong(), line.nextLong(), line.nextLong());
+                stones.add(new Stone(pos, velocity));
+            }
+        });
+
+        return stones;
+    }
+
     static int partI(List<Stone> stones, DoublePredicate inside) {
         var count = 0;
 
@@ -1,27 +1,30 @@
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
-import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Stream;
 
 public class Day25 {
+    static final Solver<UndirectedGraph<String>> SOLVER = Solver.of(Day25::parse, Day25::partI);
+
     public static void main(String... args) {
         for (String input : List.of(TEST_INPUT, INPUT)) {
-            System.out.println("Part I: " + partI(input));
+            System.out.println("Part I: " + partI(parse(input)));
         }
     }
 
-    private static int partI(String input) {
-        var graph = parse(input);
+    static int partI(UndirectedGraph<String> graph) {
         int vertices = (int) graph.vertices().count();
-        var cut = minCut(graph).size();
+        var cut = (int) Cache.value("Day25", "minCut", graph.toString(), "", () -> minCut(graph).cardinality());
         return cut * (vertices - cut);
     }
 
-    static <V> Set<V> minCut(UndirectedGraph<V> graph) {
+    /**
+     * The ids of the vertices on the smaller side of the minimum cut.
+     */
+    static <V> IdSet minCut(UndirectedGraph<V> graph) {
         var minCut = graph;
         int minWeight = Integer.MAX_VALUE;
         var random = new Random(1);
@@ -39,10 +42,10 @@ public class Day25 {
             }
         }
 
-        return minCut.vertices().min(Comparator.comparingInt(Set::size)).orElseThrow();
+        return minCut.vertices().min(Comparator.comparingInt(IdSet::cardinality)).orElseThrow();
     }
 
-    private static UndirectedGraph<String> parse(String input) {
+    static UndirectedGraph<String> parse(String input) {
         UndirectedGraph<String> graph = new UndirectedGraph<>();
 
         input.lines().forEach(line -> {
@@ -57,14 +60,15 @@ public class Day25 {
         record Edge(int a, int b) {}
 
         private final Map<V, Integer> ids = new HashMap<>();
-        private final Map<Integer, Set<V>> values = new HashMap<>();
+        // the ids of the original vertices merged into each vertex, never changed in place so that copies share them
+        private final Map<Integer, IdSet> values = new HashMap<>();
         private final Map<Integer, Map<Integer, Integer>> edges = new HashMap<>();
         private int nextId = 0;
 
         UndirectedGraph<V> copy() {
             var copy = new UndirectedGraph<V>();
             copy.ids.putAll(ids);
-            values.forEach((k, v) -> copy.values.put(k, new HashSet<>(v)));
+            copy.values.putAll(values);
             edges.forEach((k, v) -> copy.edges.put(k, new HashMap<>(v)));
             copy.nextId = nextId;
             return copy;
@@ -83,13 +87,29 @@ public class Day25 {
             if (id == null) {
                 id = nextId++;
                 ids.put(u, id);
-                values.put(id, Set.of(u));
+                values.put(id, IdSet.of(id));
             }
 
             return id;
         }
 
-        Stream<Set<V>> vertices() {
+        /**
+         * Every vertex with its weighted edges in the order of their ids, which is all that minCut depends on.
+         */
+        @Override
+        public String toString() {
+            var text = new StringBuilder();
+
+            for (int id = 0; id < nextId; id++) {
+                if (edges.containsKey(id)) {
+                    text.append(id).append(values.get(id)).append(new TreeMap<>(edges.get(id))).append('\n');
+                }
+            }
+
+            return text.toString();
+        }
+
+        Stream<IdSet> vertices() {
             return edges.keySet().stream().map(values::get);
         }
 
@@ -114,12 +134,13 @@ public class Day25 {
             vEdges.remove(edge.a);
             vEdges.remove(edge.b);
 
-            Set<V> uValues = values.remove(edge.a);
-            Set<V> vValues = values.remove(edge.b);
-            vValues = AocUtils.union(uValues != null ? uValues : Set.of(), vValues != null ? vValues : Set.of());
+            var uValues = values.remove(edge.a);
+            var vValues = values.remove(edge.b);
+            var merged = uValues == null ? (vValues == null ? new IdSet() : vValues)
+                    : vValues == null ? uValues : uValues.union(vValues);
 
             int id = nextId++;
-            values.put(id, vValues);
+            values.put(id, merged);
             edges.put(id, vEdges);
             vEdges.forEach((e, w) -> edges.computeIfAbsent(e, k -> new HashMap<>()).put(id, w));
         }
@@ -0,0 +1,66 @@
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Every day's solver together with the inputs it is run on.
+ */
+class Days {
+    static List<Day<?>> all() {
+        return List.of(
+                new Day<>("Day06", Day06.SOLVER, new Input("INPUT", Day06.INPUT)),
+                new Day<>("Day07", Day07.SOLVER, new Input("INPUT", Day07.INPUT)),
+                new Day<>("Day08", Day08.SOLVER,
+                        new Input("TEST_INPUT", Day08.TESTINPUT), new Input("INPUT", Day08.INPUT)),
+                // not a puzzle: the Day08 network walked by jump tables and step by step
+                new Day<>("Day08Walks", Day08.WALK_SOLVER, new Input("INPUT", Day08.INPUT)),
+                new Day<>("Day09", Day09.SOLVER,
+                        new Input("TEST_INPUT", Day09.TEST_INPUT), new Input("INPUT", Day09.INPUT)),
+                new Day<>("Day10", Day10.SOLVER,
+                        new Input("TEST_INPUT", Day10.TEST_INPUT), new Input("TEST_INPUT2", Day10.TEST_INPUT2),
+                        new Input("INPUT", Day10.INPUT)),
+                new Day<>("Day11", Day11.SOLVER,
+                        new Input("TEST_INPUT", Day11.TEST_INPUT), new Input("INPUT", Day11.INPUT)),
+                new Day<>("Day12", Day12.SOLVER,
+                        new Input("TEST_INPUT", Day12.TEST_INPUT), new Input("INPUT", Day12.INPUT)),
+                new Day<>("Day13", Day13.SOLVER,
+                        new Input("TEST_INPUT", Day13.TEST_INPUT), new Input("INPUT", Day13.INPUT)),
+                new Day<>("Day14", Day14.SOLVER,
+                        new Input("TEST_INPUT", Day14.TEST_INPUT), new Input("INPUT", Day14.INPUT)),
+                new Day<>("Day15", Day15.SOLVER,
+                        new Input("TEST_INPUT", Day15.TEST_INPUT), new Input("INPUT", Day15.INPUT)),
+                new Day<>("Day16", Day16.SOLVER,
+                        new Input("TEST_INPUT", Day16.TEST_INPUT), new Input("INPUT", Day16.INPUT)),
+                new Day<>("Day17", Day17.SOLVER,
+                        new Input("TEST_INPUT", Day17.TEST_INPUT), new Input("INPUT", Day17.INPUT)),
+                new Day<>("Day18", Day18.SOLVER,
+                        new Input("TEST_INPUT", Day18.TEST_INPUT), new Input("INPUT", Day18.INPUT)),
+                new Day<>("Day19", Day19.SOLVER,
+                        new Input("TEST_INPUT", Day19.TEST_INPUT), new Input("INPUT", Day19.INPUT)),
+                new Day<>("Day20", Day20.SOLVER,
+                        new Input("TEST_INPUT", Day20.TEST_INPUT), new Input("TEST_INPUT2", Day20.TEST_INPUT2),
+                        new Input("INPUT", Day20.INPUT)),
+                new Day<>("Day21", Day21.SOLVER,
+                        new Input("TEST_INPUT", Day21.TEST_INPUT), new Input("INPUT", Day21.INPUT)),
+                new Day<>("Day22", Day22.SOLVER,
+                        new Input("TEST_INPUT", Day22.TEST_INPUT), new Input("INPUT", Day22.INPUT)),
+                new Day<>("Day23", Day23.SOLVER,
+                        new Input("TEST_INPUT", Day23.TEST_INPUT), new Input("INPUT", Day23.INPUT)),
+                // the test area for part I differs between the test input and the real one
+                new Day<>("Day24", Day24.TEST_SOLVER, new Input("TEST_INPUT", Day24.TEST_INPUT)),
+                new Day<>("Day24", Day24.SOLVER, new Input("INPUT", Day24.INPUT)),
+                new Day<>("Day25", Day25.SOLVER,
+                        new Input("TEST_INPUT", Day25.TEST_INPUT), new Input("INPUT", Day25.INPUT)));
+    }
+
+    record Day<P>(String name, Solver<P> solver, List<Input> inputs) {
+        Day(String name, Solver<P> solver, Input... inputs) {
+            this(name, solver, List.of(inputs));
+        }
+    }
+
+    record Input(String name, Supplier<String> text) {
+        Input(String name, String text) {
+            this(name, () -> text);
+        }
+    }
+}
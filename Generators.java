@@ -0,0 +1,877 @@
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Synthetic puzzle inputs for scaling benchmarks. Scale 1 is roughly the size of the real puzzle input, and the input
+ * grows about linearly in bytes with the scale. The same day, scale and seed always give the same input.
+ */
+public class Generators {
+    static final long SEED = 2023;
+
+    public static void main(String... args) {
+        var day = args[0];
+        var scale = Integer.parseInt(args[1]);
+        var seed = args.length > 2 ? Long.parseLong(args[2]) : SEED;
+        var out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.ISO_8859_1)));
+        generate(day, scale, new Random(seed), out);
+        out.flush();
+    }
+
+    static String generate(String day, int scale) {
+        var text = new StringWriter();
+        generate(day, scale, new Random(SEED), new PrintWriter(text));
+        return text.toString().stripTrailing();
+    }
+
+    static void generate(String day, int scale, Random random, PrintWriter out) {
+        if (scale < 1) {
+            throw new IllegalArgumentException("Scale must be at least 1: " + scale);
+        }
+
+        switch (day) {
+            case "Day06" -> day06(scale, random, out);
+            case "Day07" -> day07(scale, random, out);
+            case "Day08", "Day08Walks" -> day08(scale, random, out);
+            case "Day09" -> day09(scale, random, out);
+            case "Day10" -> day10(scale, random, out);
+            case "Day11" -> day11(scale, random, out);
+            case "Day12" -> day12(scale, random, out);
+            case "Day13" -> day13(scale, random, out);
+            case "Day14" -> day14(scale, random, out);
+            case "Day15" -> day15(scale, random, out);
+            case "Day16" -> day16(scale, random, out);
+            case "Day17" -> day17(scale, random, out);
+            case "Day18" -> day18(scale, random, out);
+            case "Day19" -> day19(scale, random, out);
+            case "Day20" -> day20(scale, random, out);
+            case "Day21" -> day21(scale, random, out);
+            case "Day22" -> day22(scale, random, out);
+            case "Day23" -> day23(scale, random, out);
+            case "Day24" -> day24(scale, random, out);
+            case "Day25" -> day25(scale, random, out);
+            default -> throw new IllegalArgumentException("No generator for " + day);
+        }
+    }
+
+    // 4 races per scale step. Part II concatenates all of them, so large scales overflow a long.
+    static void day06(int scale, Random random, PrintWriter out) {
+        var times = new StringBuilder("Time:    ");
+        var distances = new StringBuilder("Distance:");
+
+        for (int i = 0; i < 4 * scale; i++) {
+            int time = 40 + random.nextInt(60);
+            long best = (long) time * time / 4;
+            long record = best / 2 + random.nextLong(best / 2);
+            times.append(String.format(" %6d", time));
+            distances.append(String.format(" %6d", record));
+        }
+
+        out.println(times);
+        out.println(distances);
+    }
+
+    static void day07(int scale, Random random, PrintWriter out) {
+        var cards = "23456789TJQKA";
+
+        for (int i = 0; i < 1000 * scale; i++) {
+            for (int c = 0; c < 5; c++) {
+                out.print(cards.charAt(random.nextInt(cards.length())));
+            }
+
+            out.println(" " + (1 + random.nextInt(1000)));
+        }
+    }
+
+    // Every ghost runs around two parallel rings of prime length that both end in a Z node, so the input has the
+    // same shape as the real one: each ghost reaches Z for the first time after a whole number of instruction runs
+    // and then again at every multiple of that.
+    static void day08(int scale, Random random, PrintWriter out) {
+        int length = nextPrime(263 * scale);
+        var instructions = new StringBuilder();
+
+        for (int i = 0; i < length; i++) {
+            instructions.append(random.nextBoolean() ? 'L' : 'R');
+        }
+
+        out.println(instructions);
+        out.println();
+
+        var ringLengths = new ArrayList<>(IntStream.rangeClosed(41, 79).filter(Generators::isPrime).boxed().toList());
+        Collections.shuffle(ringLengths, random);
+        var lines = new ArrayList<String>();
+        int nextName = 0;
+
+        for (int ghost = 0; ghost < 6; ghost++) {
+            int ringLength = ringLengths.get(ghost);
+            var left = new String[ringLength];
+            var right = new String[ringLength];
+
+            for (int i = 0; i < ringLength; i++) {
+                left[i] = i == 0 ? (ghost == 0 ? "ZZZ" : ghostName(ghost, 'Z')) : nodeName(nextName++);
+                right[i] = i == 0 ? ghostName(ghost + 6, 'Z') : nodeName(nextName++);
+            }
+
+            for (int i = 0; i < ringLength; i++) {
+                int next = (i + 1) % ringLength;
+                lines.add(left[i] + " = (" + left[next] + ", " + right[next] + ")");
+                lines.add(right[i] + " = (" + left[next] + ", " + right[next] + ")");
+            }
+
+            var start = ghost == 0 ? "AAA" : ghostName(ghost, 'A');
+            lines.add(start + " = (" + left[1] + ", " + right[1] + ")");
+        }
+
+        int fillers = Math.min(700 * scale, 26 * 26 * 24 - nextName);
+        int firstFiller = nextName;
+
+        for (int i = 0; i < fillers; i++) {
+            var l = nodeName(firstFiller + random.nextInt(fillers));
+            var r = nodeName(firstFiller + random.nextInt(fillers));
+            lines.add(nodeName(nextName++) + " = (" + l + ", " + r + ")");
+        }
+
+        Collections.shuffle(lines, random);
+        lines.forEach(out::println);
+    }
+
+    private static String ghostName(int ghost, char last) {
+        return "" + (char) ('B' + ghost) + (char) ('B' + ghost) + last;
+    }
+
+    private static String nodeName(int id) {
+        return "" + (char) ('A' + id / (26 * 24)) + (char) ('A' + id / 24 % 26) + (char) ('B' + id % 24);
+    }
+
+    private static boolean isPrime(int n) {
+        return n > 1 && IntStream.rangeClosed(2, (int) Math.sqrt(n)).noneMatch(d -> n % d == 0);
+    }
+
+    private static int nextPrime(int n) {
+        while (!isPrime(n)) {
+            n++;
+        }
+
+        return n;
+    }
+
+    // Values of random integer polynomials of degree at most 6, so every history extrapolates exactly.
+    static void day09(int scale, Random random, PrintWriter out) {
+        for (int line = 0; line < 200 * scale; line++) {
+            var coefficients = new long[1 + random.nextInt(7)];
+
+            for (int i = 0; i < coefficients.length; i++) {
+                coefficients[i] = random.nextInt(21) - 10;
+            }
+
+            var values = new ArrayList<String>();
+
+            for (long x = 0; x < 21; x++) {
+                long value = 0;
+
+                for (int i = coefficients.length - 1; i >= 0; i--) {
+                    value = value * x + coefficients[i];
+                }
+
+                values.add(Long.toString(value));
+            }
+
+            out.println(String.join(" ", values));
+        }
+    }
+
+    private static int side(int base, int scale) {
+        return (int) Math.round(base * Math.sqrt(scale));
+    }
+
+    // The loop is the outline of a random tree grown over 3x3 blocks of tiles: every block in the tree is a ring
+    // around its centre tile, and linking two blocks opens both rings towards each other. Blocks the tree does not
+    // reach are filled with junk pipes, so only the centre tiles of tree blocks end up inside the loop.
+    static void day10(int scale, Random random, PrintWriter out) {
+        int blocks = side(47, scale);
+        int size = 3 * blocks;
+        var inTree = new boolean[blocks * blocks];
+        var east = new boolean[blocks * blocks];
+        var south = new boolean[blocks * blocks];
+        var frontier = new ArrayList<Integer>();
+        int root = blocks / 2 * blocks + blocks / 2;
+        inTree[root] = true;
+        frontier.add(root);
+        int treeSize = 1;
+
+        while (!frontier.isEmpty() && treeSize < blocks * blocks * 6 / 10) {
+            int index = random.nextInt(frontier.size());
+            int block = frontier.get(index);
+            int bx = block % blocks;
+            int by = block / blocks;
+            var candidates = new ArrayList<Integer>();
+
+            if (bx > 0 && !inTree[block - 1]) candidates.add(block - 1);
+            if (bx < blocks - 1 && !inTree[block + 1]) candidates.add(block + 1);
+            if (by > 0 && !inTree[block - blocks]) candidates.add(block - blocks);
+            if (by < blocks - 1 && !inTree[block + blocks]) candidates.add(block + blocks);
+
+            if (candidates.isEmpty()) {
+                frontier.set(index, frontier.get(frontier.size() - 1));
+                frontier.remove(frontier.size() - 1);
+                continue;
+            }
+
+            int next = candidates.get(random.nextInt(candidates.size()));
+            int low = Math.min(block, next);
+
+            if (Math.abs(next - block) == 1) {
+                east[low] = true;
+            } else {
+                south[low] = true;
+            }
+
+            inTree[next] = true;
+            frontier.add(next);
+            treeSize++;
+        }
+
+        // exits per tile as bits: N=1, E=2, S=4, W=8
+        var exits = new int[size * size];
+
+        for (int block = 0; block < blocks * blocks; block++) {
+            if (inTree[block]) {
+                int tl = 3 * (block / blocks) * size + 3 * (block % blocks);
+                exits[tl] |= 2 | 4;
+                exits[tl + 1] |= 2 | 8;
+                exits[tl + 2] |= 4 | 8;
+                exits[tl + size] |= 1 | 4;
+                exits[tl + size + 2] |= 1 | 4;
+                exits[tl + 2 * size] |= 1 | 2;
+                exits[tl + 2 * size + 1] |= 2 | 8;
+                exits[tl + 2 * size + 2] |= 1 | 8;
+            }
+        }
+
+        for (int block = 0; block < blocks * blocks; block++) {
+            int tl = 3 * (block / blocks) * size + 3 * (block % blocks);
+
+            if (east[block]) {
+                // open the right side between its middle and bottom tiles, and the left side of the next block
+                int mr = tl + size + 2;
+                int br = tl + 2 * size + 2;
+                exits[mr] = exits[mr] & ~4 | 2;
+                exits[br] = exits[br] & ~1 | 2;
+                exits[mr + 1] = exits[mr + 1] & ~4 | 8;
+                exits[br + 1] = exits[br + 1] & ~1 | 8;
+            }
+
+            if (south[block]) {
+                // open the bottom side between its middle and right tiles, and the top side of the block below
+                int bm = tl + 2 * size + 1;
+                int br = tl + 2 * size + 2;
+                exits[bm] = exits[bm] & ~2 | 4;
+                exits[br] = exits[br] & ~8 | 4;
+                exits[bm + size] = exits[bm + size] & ~2 | 1;
+                exits[br + size] = exits[br + size] & ~8 | 1;
+            }
+        }
+
+        int start = 3 * (root / blocks) * size + 3 * (root % blocks);
+        var junk = "|-LJ7F..";
+        var text = new StringBuilder();
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int tile = y * size + x;
+                boolean nextToStart = Math.abs(x - start % size) + Math.abs(y - start / size) == 1;
+
+                if (tile == start) {
+                    text.append('S');
+                } else if (exits[tile] != 0) {
+                    text.append(pipe(exits[tile]));
+                } else {
+                    text.append(nextToStart ? '.' : junk.charAt(random.nextInt(junk.length())));
+                }
+            }
+
+            out.println(text);
+            text.setLength(0);
+        }
+    }
+
+    private static char pipe(int exits) {
+        return switch (exits) {
+            case 1 | 4 -> '|';
+            case 2 | 8 -> '-';
+            case 1 | 2 -> 'L';
+            case 1 | 8 -> 'J';
+            case 4 | 8 -> '7';
+            case 4 | 2 -> 'F';
+            default -> throw new IllegalStateException("Not a pipe: " + exits);
+        };
+    }
+
+    static void day11(int scale, Random random, PrintWriter out) {
+        int size = side(140, scale);
+        var emptyRows = new BitSet();
+        var emptyColumns = new BitSet();
+
+        for (int i = 0; i < size; i++) {
+            if (random.nextInt(15) == 0) emptyRows.set(i);
+            if (random.nextInt(15) == 0) emptyColumns.set(i);
+        }
+
+        var row = new StringBuilder();
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean galaxy = !emptyRows.get(y) && !emptyColumns.get(x) && random.nextInt(50) == 0;
+                row.append(galaxy ? '#' : '.');
+            }
+
+            out.println(row);
+            row.setLength(0);
+        }
+    }
+
+    // Scale stretches the lines: groups get longer and more numerous, with runs of unknown springs between them.
+    static void day12(int scale, Random random, PrintWriter out) {
+        var springs = new StringBuilder();
+
+        for (int line = 0; line < 1000; line++) {
+            int groups = 1 + random.nextInt(2 + 2 * scale);
+            var lengths = new ArrayList<String>();
+            springs.append(".".repeat(random.nextInt(3)));
+
+            for (int group = 0; group < groups; group++) {
+                int length = 1 + random.nextInt(2 + scale);
+                lengths.add(Integer.toString(length));
+                springs.append("#".repeat(length));
+                springs.append(".".repeat(1 + random.nextInt(2 + scale)));
+            }
+
+            for (int i = 0; i < springs.length(); i++) {
+                if (random.nextInt(5) < 2) {
+                    springs.setCharAt(i, '?');
+                }
+            }
+
+            out.println(springs + " " + String.join(",", lengths));
+            springs.setLength(0);
+        }
+    }
+
+    // Each pattern has an exact mirror line, with one cell flipped so that line only works after fixing the smudge.
+    static void day13(int scale, Random random, PrintWriter out) {
+        for (int pattern = 0; pattern < 100 * scale; pattern++) {
+            int width = 5 + random.nextInt(13);
+            int height = 5 + random.nextInt(13);
+            var cells = new boolean[height][width];
+
+            for (var row : cells) {
+                for (int x = 0; x < width; x++) {
+                    row[x] = random.nextBoolean();
+                }
+            }
+
+            int line = 1 + random.nextInt(height - 1);
+
+            for (int d = 0; line - d - 1 >= 0 && line + d < height; d++) {
+                cells[line + d] = cells[line - d - 1].clone();
+            }
+
+            int y = line - 1;
+            int x = random.nextInt(width);
+            cells[y][x] = !cells[y][x];
+
+            if (random.nextBoolean()) {
+                cells = transpose(cells);
+            }
+
+            if (pattern > 0) {
+                out.println();
+            }
+
+            for (var row : cells) {
+                var text = new StringBuilder();
+
+                for (var rock : row) {
+                    text.append(rock ? '#' : '.');
+                }
+
+                out.println(text);
+            }
+        }
+    }
+
+    private static boolean[][] transpose(boolean[][] cells) {
+        var transposed = new boolean[cells[0].length][cells.length];
+
+        for (int y = 0; y < cells.length; y++) {
+            for (int x = 0; x < cells[0].length; x++) {
+                transposed[x][y] = cells[y][x];
+            }
+        }
+
+        return transposed;
+    }
+
+    static void day14(int scale, Random random, PrintWriter out) {
+        int size = side(100, scale);
+        var row = new StringBuilder();
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                int r = random.nextInt(10);
+                row.append(r < 2 ? 'O' : r < 3 ? '#' : '.');
+            }
+
+            out.println(row);
+            row.setLength(0);
+        }
+    }
+
+    static void day15(int scale, Random random, PrintWriter out) {
+        var labels = new ArrayList<String>();
+
+        for (int i = 0; i < 500 * scale; i++) {
+            var label = new StringBuilder();
+
+            for (int c = 2 + random.nextInt(5); c > 0; c--) {
+                label.append((char) ('a' + random.nextInt(26)));
+            }
+
+            labels.add(label.toString());
+        }
+
+        for (int i = 0; i < 4000 * scale; i++) {
+            var label = labels.get(random.nextInt(labels.size()));
+
+            if (i > 0) {
+                out.print(',');
+            }
+
+            out.print(random.nextInt(3) == 0 ? label + "-" : label + "=" + (1 + random.nextInt(9)));
+        }
+
+        out.println();
+    }
+
+    static void day16(int scale, Random random, PrintWriter out) {
+        int size = side(110, scale);
+        var devices = "/\\|-";
+        var row = new StringBuilder();
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                row.append(random.nextInt(10) == 0 ? devices.charAt(random.nextInt(4)) : '.');
+            }
+
+            out.println(row);
+            row.setLength(0);
+        }
+    }
+
+    static void day17(int scale, Random random, PrintWriter out) {
+        int size = side(141, scale);
+        var row = new StringBuilder();
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                row.append((char) ('1' + random.nextInt(9)));
+            }
+
+            out.println(row);
+            row.setLength(0);
+        }
+    }
+
+    // Both the plain and the colour-coded instructions trace a skyline: up and down between columns of random
+    // heights, then back along the ground. The way back is split so both traces have the same number of steps.
+    static void day18(int scale, Random random, PrintWriter out) {
+        int columns = 300 * scale;
+        var small = skyline(columns, 40, 10, random);
+        var large = skyline(columns, 0xFFFFF, 100_000, random);
+        int returns = Math.max(chunks(small.width(), 10), chunks(large.width(), 0xFFFFF));
+        var smallSteps = new ArrayList<>(small.steps());
+        var largeSteps = new ArrayList<>(large.steps());
+        smallSteps.addAll(split('L', small.width(), returns));
+        largeSteps.addAll(split('L', large.width(), returns));
+        var codes = "RDLU";
+
+        for (int i = 0; i < smallSteps.size(); i++) {
+            var s = smallSteps.get(i);
+            var l = largeSteps.get(i);
+            out.printf("%c %d (#%05x%d)%n", s.direction(), s.distance(), l.distance(), codes.indexOf(l.direction()));
+        }
+    }
+
+    private record Step(char direction, long distance) {}
+
+    private record Skyline(List<Step> steps, long width) {}
+
+    private static Skyline skyline(int columns, int maxHeight, int maxWidth, Random random) {
+        var steps = new ArrayList<Step>();
+        long height = 0;
+        long width = 0;
+
+        for (int column = 0; column < columns; column++) {
+            long next;
+
+            do {
+                next = 1 + random.nextInt(maxHeight);
+            } while (next == height);
+
+            steps.add(new Step(next > height ? 'U' : 'D', Math.abs(next - height)));
+            long w = 1 + random.nextInt(maxWidth);
+            steps.add(new Step('R', w));
+            height = next;
+            width += w;
+        }
+
+        steps.add(new Step('D', height));
+        return new Skyline(steps, width);
+    }
+
+    private static int chunks(long length, long max) {
+        return (int) ((length + max - 1) / max);
+    }
+
+    private static List<Step> split(char direction, long length, int parts) {
+        var steps = new ArrayList<Step>();
+
+        for (int i = 0; i < parts; i++) {
+            long part = length / parts + (i < length % parts ? 1 : 0);
+            steps.add(new Step(direction, part));
+        }
+
+        return steps;
+    }
+
+    // Workflows form a tree below "in", so every rule chain ends in A or R.
+    static void day19(int scale, Random random, PrintWriter out) {
+        int workflows = 550 * scale;
+        var names = new ArrayList<String>();
+        names.add("in");
+        names.addAll(names(workflows - 1, Set.of("in")));
+
+        var variables = "xmas";
+        int nextChild = 1;
+
+        for (var name : names) {
+            var rules = new ArrayList<String>();
+            int ruleCount = 1 + random.nextInt(4);
+
+            for (int r = 0; r <= ruleCount; r++) {
+                String destination;
+
+                if (nextChild < workflows && random.nextInt(3) > 0) {
+                    destination = names.get(nextChild++);
+                } else {
+                    destination = random.nextBoolean() ? "A" : "R";
+                }
+
+                if (r < ruleCount) {
+                    char variable = variables.charAt(random.nextInt(4));
+                    char operator = random.nextBoolean() ? '<' : '>';
+                    rules.add(variable + "" + operator + (1 + random.nextInt(4000)) + ":" + destination);
+                } else {
+                    rules.add(destination);
+                }
+            }
+
+            out.println(name + "{" + String.join(",", rules) + "}");
+        }
+
+        out.println();
+
+        for (int part = 0; part < 200 * scale; part++) {
+            out.printf("{x=%d,m=%d,a=%d,s=%d}%n", 1 + random.nextInt(4000), 1 + random.nextInt(4000),
+                    1 + random.nextInt(4000), 1 + random.nextInt(4000));
+        }
+    }
+
+    private static String lowercaseName(int id, int minLength) {
+        var name = new StringBuilder();
+
+        do {
+            name.append((char) ('a' + id % 26));
+            id /= 26;
+        } while (id > 0 || name.length() < minLength);
+
+        return name.reverse().toString();
+    }
+
+    // Four 12-bit counters per scale step, each reset by its conjunction at a random count, all feeding rx.
+    // Part II multiplies the counter periods, so more than five counters overflow a long.
+    static void day20(int scale, Random random, PrintWriter out) {
+        int counters = 4 * scale;
+        var names = names(1 + 14 * counters, Set.of("rx", "broadcaster", "output")).iterator();
+        var collector = names.next();
+        var firstBits = new ArrayList<String>();
+        var lines = new ArrayList<String>();
+
+        for (int counter = 0; counter < counters; counter++) {
+            var bits = new ArrayList<String>();
+
+            for (int bit = 0; bit < 12; bit++) {
+                bits.add(names.next());
+            }
+
+            var conjunction = names.next();
+            var inverter = names.next();
+            int period = 2049 + 2 * random.nextInt(1024);
+            var conjunctionReceivers = new ArrayList<String>();
+            conjunctionReceivers.add(inverter);
+
+            for (int bit = 0; bit < 12; bit++) {
+                var receivers = new ArrayList<String>();
+
+                if (bit < 11) {
+                    receivers.add(bits.get(bit + 1));
+                }
+
+                if ((period >> bit & 1) == 1) {
+                    receivers.add(conjunction);
+                }
+
+                if ((period >> bit & 1) == 0 || bit == 0) {
+                    conjunctionReceivers.add(bits.get(bit));
+                }
+
+                lines.add("%" + bits.get(bit) + " -> " + String.join(", ", receivers));
+            }
+
+            lines.add("&" + conjunction + " -> " + String.join(", ", conjunctionReceivers));
+            lines.add("&" + inverter + " -> " + collector);
+            firstBits.add(bits.get(0));
+        }
+
+        lines.add("&" + collector + " -> rx");
+        lines.add("broadcaster -> " + String.join(", ", firstBits));
+        Collections.shuffle(lines, random);
+        lines.forEach(out::println);
+    }
+
+    private static List<String> names(int count, Set<String> reserved) {
+        var names = new ArrayList<String>();
+
+        for (int id = 0; names.size() < count; id++) {
+            var name = lowercaseName(id, 2);
+
+            if (!reserved.contains(name)) {
+                names.add(name);
+            }
+        }
+
+        return names;
+    }
+
+    // Like the real input: odd size, start in the middle, and the middle row, middle column and border kept clear.
+    static void day21(int scale, Random random, PrintWriter out) {
+        int size = side(131, scale) | 1;
+        int middle = size / 2;
+        var row = new StringBuilder();
+
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                boolean clear = x == middle || y == middle || x == 0 || y == 0 || x == size - 1 || y == size - 1;
+
+                if (x == middle && y == middle) {
+                    row.append('S');
+                } else {
+                    row.append(!clear && random.nextInt(7) == 0 ? '#' : '.');
+                }
+            }
+
+            out.println(row);
+            row.setLength(0);
+        }
+    }
+
+    // Bricks are spread over a footprint that grows with the scale, at about the density of the real snapshot.
+    static void day22(int scale, Random random, PrintWriter out) {
+        int bricks = 1295 * scale;
+        int footprint = side(10, scale);
+        int height = 330;
+        var occupied = new BitSet();
+
+        for (int brick = 0; brick < bricks; ) {
+            int axis = random.nextInt(3);
+            int length = random.nextInt(4);
+            int x = random.nextInt(footprint - (axis == 0 ? length : 0));
+            int y = random.nextInt(footprint - (axis == 1 ? length : 0));
+            int z = 1 + random.nextInt(height - (axis == 2 ? length : 0));
+            int dx = axis == 0 ? 1 : 0;
+            int dy = axis == 1 ? 1 : 0;
+            int dz = axis == 2 ? 1 : 0;
+            boolean free = true;
+
+            for (int i = 0; i <= length && free; i++) {
+                free = !occupied.get(((z + i * dz) * footprint + y + i * dy) * footprint + x + i * dx);
+            }
+
+            if (free) {
+                for (int i = 0; i <= length; i++) {
+                    occupied.set(((z + i * dz) * footprint + y + i * dy) * footprint + x + i * dx);
+                }
+
+                out.printf("%d,%d,%d~%d,%d,%d%n", x, y, z, x + length * dx, y + length * dy, z + length * dz);
+                brick++;
+            }
+        }
+    }
+
+    // Junctions on a lattice with uneven spacing, joined by corridors with slopes pointing right and down at each
+    // end. Part II of the puzzle is exponential in the number of junctions, so keep the scale small.
+    static void day23(int scale, Random random, PrintWriter out) {
+        int junctions = side(6, scale);
+        var xs = new int[junctions];
+        var ys = new int[junctions];
+
+        for (int i = 0; i < junctions; i++) {
+            xs[i] = i == 0 ? 1 + random.nextInt(20) : xs[i - 1] + 5 + random.nextInt(40);
+            ys[i] = i == 0 ? 2 + random.nextInt(20) : ys[i - 1] + 5 + random.nextInt(40);
+        }
+
+        int width = xs[junctions - 1] + 2 + random.nextInt(10);
+        int height = ys[junctions - 1] + 2 + random.nextInt(10);
+        var map = new char[height][width];
+
+        for (var row : map) {
+            Arrays.fill(row, '#');
+        }
+
+        for (int j = 0; j < junctions; j++) {
+            for (int i = 0; i < junctions; i++) {
+                if (i < junctions - 1) {
+                    for (int x = xs[i]; x <= xs[i + 1]; x++) {
+                        map[ys[j]][x] = '.';
+                    }
+
+                    map[ys[j]][xs[i] + 1] = '>';
+                    map[ys[j]][xs[i + 1] - 1] = '>';
+                }
+
+                if (j < junctions - 1) {
+                    for (int y = ys[j]; y <= ys[j + 1]; y++) {
+                        map[y][xs[i]] = '.';
+                    }
+
+                    map[ys[j] + 1][xs[i]] = 'v';
+                    map[ys[j + 1] - 1][xs[i]] = 'v';
+                }
+            }
+        }
+
+        for (int y = 0; y < ys[0]; y++) {
+            map[y][xs[0]] = '.';
+        }
+
+        for (int y = ys[junctions - 1]; y < height; y++) {
+            map[y][xs[junctions - 1]] = '.';
+        }
+
+        for (var row : map) {
+            out.println(new String(row));
+        }
+    }
+
+    // Hailstones are placed where a hidden rock passes at distinct times, so part II always has a solution.
+    static void day24(int scale, Random random, PrintWriter out) {
+        long[] rock = {
+                250_000_000_000_000L + random.nextLong(100_000_000_000_000L),
+                250_000_000_000_000L + random.nextLong(100_000_000_000_000L),
+                250_000_000_000_000L + random.nextLong(100_000_000_000_000L)};
+        long[] rockVelocity = {random.nextInt(301) - 150, random.nextInt(301) - 150, random.nextInt(301) - 150};
+        var times = new HashSet<Long>();
+
+        while (times.size() < 300 * scale) {
+            long t = 10_000_000_000L + random.nextLong(400_000_000_000L);
+
+            if (!times.add(t)) {
+                continue;
+            }
+
+            var position = new long[3];
+            var velocity = new long[3];
+
+            for (int i = 0; i < 3; i++) {
+                do {
+                    velocity[i] = random.nextInt(601) - 300;
+                } while (velocity[i] == 0 || velocity[i] == rockVelocity[i]);
+
+                position[i] = rock[i] + (rockVelocity[i] - velocity[i]) * t;
+            }
+
+            out.printf("%d, %d, %d @ %d, %d, %d%n", position[0], position[1], position[2],
+                    velocity[0], velocity[1], velocity[2]);
+        }
+    }
+
+    // Two sparse random clusters of 1500 components per scale step in total, joined by exactly three wires. Every
+    // component is topped up to at least four wires, so the planted cut is the only one of size three.
+    static void day25(int scale, Random random, PrintWriter out) {
+        int vertices = 1500 * scale;
+        int half = vertices / 2 - random.nextInt(vertices / 10);
+        var ids = IntStream.range(0, vertices).boxed().collect(Collectors.toList());
+        Collections.shuffle(ids, random);
+        var neighbors = new ArrayList<List<Integer>>();
+        var degrees = new int[vertices];
+        var edges = new HashSet<Long>();
+
+        for (int v = 0; v < vertices; v++) {
+            neighbors.add(new ArrayList<>());
+        }
+
+        for (int pass = 0; pass < 2; pass++) {
+            for (int v = 0; v < vertices; v++) {
+                int from = v < half ? 0 : half;
+                int to = v < half ? half : vertices;
+
+                for (int wires = pass == 0 ? 2 : 4; degrees[v] < wires; ) {
+                    int u = from + random.nextInt(to - from);
+
+                    if (u != v && edges.add((long) Math.min(u, v) * vertices + Math.max(u, v))) {
+                        neighbors.get(v).add(u);
+                        degrees[u]++;
+                        degrees[v]++;
+                    }
+                }
+            }
+        }
+
+        for (int cut = 0; cut < 3; cut++) {
+            int u = random.nextInt(half);
+            int v = half + random.nextInt(vertices - half);
+
+            if (edges.add((long) u * vertices + v)) {
+                neighbors.get(u).add(v);
+            } else {
+                cut--;
+            }
+        }
+
+        int length = vertices <= 26 * 26 * 26 ? 3 : lowercaseName(vertices, 3).length();
+
+        for (int v = 0; v < vertices; v++) {
+            if (!neighbors.get(v).isEmpty()) {
+                var line = new StringBuilder(lowercaseName(ids.get(v), length)).append(':');
+
+                for (int u : neighbors.get(v)) {
+                    line.append(' ').append(lowercaseName(ids.get(u), length));
+                }
+
+                out.println(line);
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * A rectangular grid of one byte per cell, stored row-major in a single array with rows stride() bytes apart.
+ * A grid parsed from its input keeps each line break as an extra column after every row; a padded grid has a border
+ * of sentinel cells instead, so that a step off the edge in any direction lands on a sentinel.
+ */
+final class Grid {
+    private final byte[] cells;
+    private final int width;
+    private final int height;
+    private final int stride;
+    private final int origin;
+    private final int[] neighborOffsets;
+
+    private Grid(byte[] cells, int width, int height, int stride, int origin) {
+        this.cells = cells;
+        this.width = width;
+        this.height = height;
+        this.stride = stride;
+        this.origin = origin;
+        this.neighborOffsets = new int[] {-stride, 1, stride, -1};
+    }
+
+    static Grid parse(String input) {
+        return wrap(input.getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    /**
+     * Copies the lines of the input once, straight into the array the grid keeps, each followed by a '\n'. Line
+     * breaks may be "\r\n", so the lines can take a few bytes less than the array, which the grid leaves unused.
+     */
+    static Grid parse(AocInput input) {
+        if (input.size() >= Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Input of " + input.size() + " bytes is too large for a grid");
+        }
+
+        var cells = new byte[(int) input.size() + 1];
+        int[] length = {0};
+
+        input.lines(line -> {
+            length[0] += line.copyTo(cells, length[0]);
+            cells[length[0]++] = '\n';
+        });
+
+        return wrap(cells, length[0]);
+    }
+
+    /**
+     * Uses the bytes of the input as they are, without copying: lines of equal length separated by '\n', with or
+     * without a final line break.
+     */
+    static Grid wrap(byte[] input) {
+        return wrap(input, input.length);
+    }
+
+    // only the first length bytes of the input are the grid
+    private static Grid wrap(byte[] input, int length) {
+        int width = 0;
+
+        while (width < length && input[width] != '\n') {
+            width++;
+        }
+
+        int stride = width + 1;
+        int height = (length + 1) / stride;
+
+        if (length != height * stride && length != height * stride - 1) {
+            throw new IllegalArgumentException("Lines are not all " + width + " long");
+        }
+
+        for (int y = 0; y < height - 1; y++) {
+            if (input[y * stride + width] != '\n') {
+                throw new IllegalArgumentException("Line " + (y + 1) + " is not " + width + " long");
+            }
+        }
+
+        return new Grid(input, width, height, stride, 0);
+    }
+
+    /**
+     * A copy of this grid surrounded by a border of sentinel cells.
+     */
+    Grid padded(byte sentinel) {
+        int paddedStride = width + 2;
+        var padded = new byte[paddedStride * (height + 2)];
+        Arrays.fill(padded, sentinel);
+
+        for (int y = 0; y < height; y++) {
+            System.arraycopy(cells, index(0, y), padded, (y + 1) * paddedStride + 1, width);
+        }
+
+        return new Grid(padded, width, height, paddedStride, paddedStride + 1);
+    }
+
+    Grid copy() {
+        return new Grid(cells.clone(), width, height, stride, origin);
+    }
+
+    int width() {
+        return width;
+    }
+
+    int height() {
+        return height;
+    }
+
+    int stride() {
+        return stride;
+    }
+
+    /**
+     * The length of the backing array: every index of a cell, line break or sentinel is below it.
+     */
+    int size() {
+        return cells.length;
+    }
+
+    int index(int x, int y) {
+        return origin + y * stride + x;
+    }
+
+    int x(int index) {
+        return Math.floorMod(index - origin, stride);
+    }
+
+    int y(int index) {
+        return Math.floorDiv(index - origin, stride);
+    }
+
+    boolean contains(int x, int y) {
+        return x >= 0 && x < width && y >= 0 && y < height;
+    }
+
+    /**
+     * The change of index for a step of dx columns and dy rows.
+     */
+    int offset(int dx, int dy) {
+        return dy * stride + dx;
+    }
+
+    /**
+     * Offsets of the four neighbors of a cell, clockwise from north: N, E, S, W. The grid hands out the same array
+     * every time, so it must not be changed.
+     */
+    int[] neighborOffsets() {
+        return neighborOffsets;
+    }
+
+    /**
+     * The index of the neighbor in the given direction: 0 to 3 for N, E, S and W.
+     */
+    int neighbor(int index, int direction) {
+        return index + neighborOffsets[direction];
+    }
+
+    byte get(int index) {
+        return cells[index];
+    }
+
+    byte get(int x, int y) {
+        return cells[index(x, y)];
+    }
+
+    void set(int index, byte value) {
+        cells[index] = value;
+    }
+
+    /**
+     * The index of the first cell, in row-major order, holding the value, or -1 if there is none.
+     */
+    int indexOf(byte value) {
+        for (int y = 0; y < height; y++) {
+            for (int i = index(0, y); i < index(width, y); i++) {
+                if (cells[i] == value) {
+                    return i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * The rows of the grid, without its padding, one per line.
+     */
+    @Override
+    public String toString() {
+        var text = new StringBuilder(height * (width + 1));
+
+        for (int y = 0; y < height; y++) {
+            text.append(new String(cells, index(0, y), width, StandardCharsets.ISO_8859_1)).append('\n');
+        }
+
+        return text.toString();
+    }
+}
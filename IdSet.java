@@ -0,0 +1,362 @@
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+/**
+ * A set of small non-negative int ids. addAll, removeAll and retainAll change the set in place, so a set can be merged
+ * into without copying; union, diff and intersect leave both sets as they are and return a new one, so a set that is
+ * never changed in place can be shared.
+ * <p>
+ * A set keeps its ids sorted in an int array while that is smaller than one bit for every id up to the largest, and
+ * switches to the bits once they are smaller. A few large ids then cost a few ints, not a bit per smaller id, and
+ * merging two such sets costs their sizes.
+ */
+final class IdSet {
+    // sorted, the first size of them are the set; null once the set is kept as bits
+    private int[] ids;
+    private int size;
+    // bit i of word i / 64 is set for every id i in the set; null while the set is kept as ids
+    private long[] words;
+
+    IdSet() {
+        this(new int[4], 0);
+    }
+
+    private IdSet(int[] ids, int size) {
+        this.ids = ids;
+        this.size = size;
+    }
+
+    private IdSet(long[] words) {
+        this.words = words;
+    }
+
+    static IdSet of(int... ids) {
+        var set = new IdSet();
+
+        for (int id : ids) {
+            set.add(id);
+        }
+
+        return set;
+    }
+
+    boolean contains(int id) {
+        if (words == null) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        int word = id >>> 6;
+        return word < words.length && (words[word] & 1L << id) != 0;
+    }
+
+    /**
+     * Adds the id and tells whether it was not there yet.
+     */
+    boolean add(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Negative id: " + id);
+        }
+
+        if (words == null) {
+            int at = size == 0 || ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+
+            if (at >= 0) {
+                return false;
+            }
+
+            at = -at - 1;
+
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(4, 2 * size));
+            }
+
+            System.arraycopy(ids, at, ids, at + 1, size - at);
+            ids[at] = id;
+            size++;
+            compact();
+            return true;
+        }
+
+        int word = id >>> 6;
+        grow(word + 1);
+        long before = words[word];
+        words[word] |= 1L << id;
+        return words[word] != before;
+    }
+
+    boolean remove(int id) {
+        if (words == null) {
+            int at = Arrays.binarySearch(ids, 0, size, id);
+
+            if (at < 0) {
+                return false;
+            }
+
+            System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+            size--;
+            return true;
+        }
+
+        int word = id >>> 6;
+
+        if (word >= words.length) {
+            return false;
+        }
+
+        long before = words[word];
+        words[word] &= ~(1L << id);
+        return words[word] != before;
+    }
+
+    int cardinality() {
+        if (words == null) {
+            return size;
+        }
+
+        int cardinality = 0;
+
+        for (long word : words) {
+            cardinality += Long.bitCount(word);
+        }
+
+        return cardinality;
+    }
+
+    boolean isEmpty() {
+        if (words == null) {
+            return size == 0;
+        }
+
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * The smallest id in the set, or -1 if it is empty.
+     */
+    int first() {
+        if (words == null) {
+            return size == 0 ? -1 : ids[0];
+        }
+
+        for (int i = 0; i < words.length; i++) {
+            if (words[i] != 0) {
+                return i << 6 | Long.numberOfTrailingZeros(words[i]);
+            }
+        }
+
+        return -1;
+    }
+
+    IntStream stream() {
+        if (words == null) {
+            return Arrays.stream(ids, 0, size);
+        }
+
+        return IntStream.range(0, words.length)
+                        .flatMap(i -> LongStream.iterate(words[i], word -> word != 0, word -> word & word - 1)
+                                                .mapToInt(word -> i << 6 | Long.numberOfTrailingZeros(word)));
+    }
+
+    IdSet copy() {
+        return words == null ? new IdSet(Arrays.copyOf(ids, size), size) : new IdSet(words.clone());
+    }
+
+    IdSet addAll(IdSet that) {
+        if (words == null && that.words == null) {
+            ids = merge(ids, size, that.ids, that.size);
+            size = ids.length;
+            compact();
+        } else if (that.words == null) {
+            for (int i = 0; i < that.size; i++) {
+                add(that.ids[i]);
+            }
+        } else {
+            toWords(that.words.length);
+
+            for (int i = 0; i < that.words.length; i++) {
+                words[i] |= that.words[i];
+            }
+        }
+
+        return this;
+    }
+
+    IdSet removeAll(IdSet that) {
+        if (words == null) {
+            keep(that, false);
+        } else if (that.words == null) {
+            for (int i = 0; i < that.size; i++) {
+                remove(that.ids[i]);
+            }
+        } else {
+            for (int i = 0; i < Math.min(words.length, that.words.length); i++) {
+                words[i] &= ~that.words[i];
+            }
+        }
+
+        return this;
+    }
+
+    IdSet retainAll(IdSet that) {
+        if (words == null) {
+            keep(that, true);
+        } else if (that.words == null) {
+            var kept = that.copy().keep(this, true);
+            words = null;
+            ids = kept.ids;
+            size = kept.size;
+        } else {
+            for (int i = 0; i < words.length; i++) {
+                words[i] &= i < that.words.length ? that.words[i] : 0;
+            }
+        }
+
+        return this;
+    }
+
+    IdSet union(IdSet that) {
+        if (words == null && that.words == null) {
+            int[] merged = merge(ids, size, that.ids, that.size);
+            var set = new IdSet(merged, merged.length);
+            set.compact();
+            return set;
+        }
+
+        return words != null ? copy().addAll(that) : that.copy().addAll(this);
+    }
+
+    IdSet diff(IdSet that) {
+        return copy().removeAll(that);
+    }
+
+    IdSet intersect(IdSet that) {
+        return cardinality() <= that.cardinality() ? copy().retainAll(that) : that.copy().retainAll(this);
+    }
+
+    // keeps only the ids that are in that set, or only those that are not
+    private IdSet keep(IdSet that, boolean inThat) {
+        int kept = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (that.contains(ids[i]) == inThat) {
+                ids[kept++] = ids[i];
+            }
+        }
+
+        size = kept;
+        return this;
+    }
+
+    private static int[] merge(int[] a, int aSize, int[] b, int bSize) {
+        int[] merged = new int[aSize + bSize];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+
+        while (i < aSize && j < bSize) {
+            if (a[i] < b[j]) {
+                merged[k++] = a[i++];
+            } else if (a[i] > b[j]) {
+                merged[k++] = b[j++];
+            } else {
+                merged[k++] = a[i++];
+                j++;
+            }
+        }
+
+        while (i < aSize) {
+            merged[k++] = a[i++];
+        }
+
+        while (j < bSize) {
+            merged[k++] = b[j++];
+        }
+
+        return k == merged.length ? merged : Arrays.copyOf(merged, k);
+    }
+
+    // an int per id takes 32 bits, a word per 64 ids takes 64 bits: switch once the ids take more
+    private void compact() {
+        if (words == null && size > 0 && size > 2 * ((ids[size - 1] >>> 6) + 1)) {
+            toWords(0);
+        }
+    }
+
+    private void toWords(int length) {
+        if (words == null) {
+            words = new long[Math.max(length, size == 0 ? 1 : (ids[size - 1] >>> 6) + 1)];
+
+            for (int i = 0; i < size; i++) {
+                words[ids[i] >>> 6] |= 1L << ids[i];
+            }
+
+            ids = null;
+            size = 0;
+        } else {
+            grow(length);
+        }
+    }
+
+    private void grow(int length) {
+        if (length > words.length) {
+            words = Arrays.copyOf(words, Math.max(length, 2 * words.length));
+        }
+    }
+
+    // the ids or trailing zero words do not count, so sets kept or grown differently can still be equal
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof IdSet that)) {
+            return false;
+        }
+
+        if (words == null || that.words == null) {
+            return cardinality() == that.cardinality() && (words == null ? this : that).stream().allMatch(
+                    (words == null ? that : this)::contains);
+        }
+
+        for (int i = 0; i < Math.max(words.length, that.words.length); i++) {
+            if ((i < words.length ? words[i] : 0) != (i < that.words.length ? that.words[i] : 0)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        long hash = 1234;
+
+        if (words == null) {
+            for (int i = 0; i < size; ) {
+                int word = ids[i] >>> 6;
+                long bits = 0;
+
+                for (; i < size && ids[i] >>> 6 == word; i++) {
+                    bits |= 1L << ids[i];
+                }
+
+                hash ^= bits * (word + 1);
+            }
+        } else {
+            for (int i = words.length; --i >= 0; ) {
+                hash ^= words[i] * (i + 1);
+            }
+        }
+
+        return (int) (hash >> 32 ^ hash);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(stream().toArray());
+    }
+}
@@ -0,0 +1,197 @@
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Measures solver phases: wall and CPU time, bytes allocated by the running thread, garbage collections and the
+ * hot loop counters, published as a {@link Measurement} and as a JFR event.
+ */
+class Instrumentation {
+    static final boolean COUNTERS = Boolean.getBoolean("instrument.counters");
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Counts of the innermost steps of some days, kept only with -Dinstrument.counters=true. They are shared by all
+     * threads, so the counts of a phase include whatever ran alongside it.
+     */
+    enum Counter {
+        DIJKSTRA_POPS, BEAM_STEPS, PULSES, SIMULATED_STEPS, CACHE_HITS, CACHE_MISSES;
+
+        private final LongAdder adder = new LongAdder();
+
+        void increment() {
+            if (COUNTERS) {
+                adder.increment();
+            }
+        }
+
+        void add(long n) {
+            if (COUNTERS) {
+                adder.add(n);
+            }
+        }
+
+        long sum() {
+            return adder.sum();
+        }
+    }
+
+    /**
+     * Runs the phase and passes its measurement to the sink, also when the phase fails.
+     */
+    static <T> T measure(String input, String phase, Supplier<T> body, Consumer<Measurement> sink) {
+        var event = new PhaseEvent();
+        var counters = counters();
+        long gcs = gcCount();
+        long cpu = THREADS.getCurrentThreadCpuTime();
+        long allocated = THREADS.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        Object answer = null;
+        event.begin();
+
+        try {
+            T result = body.get();
+            answer = phase.equals("parse") ? "" : result;
+            return result;
+        } catch (RuntimeException | StackOverflowError e) {
+            answer = "failed: " + e;
+            throw e;
+        } finally {
+            event.end();
+            var measurement = new Measurement(input, phase, System.nanoTime() - start,
+                    since(cpu, THREADS.getCurrentThreadCpuTime()),
+                    since(allocated, THREADS.getCurrentThreadAllocatedBytes()), gcCount() - gcs,
+                    since(counters), answer);
+
+            if (event.shouldCommit()) {
+                event.input = input;
+                event.phase = phase;
+                event.allocatedBytes = measurement.allocatedBytes();
+                event.gcs = measurement.gcs();
+                event.commit();
+            }
+
+            sink.accept(measurement);
+        }
+    }
+
+    // -1 when the thread does not report the counter, as virtual threads do not
+    private static long since(long before, long now) {
+        return before < 0 || now < 0 ? -1 : now - before;
+    }
+
+    private static Map<Counter, Long> counters() {
+        var counters = new EnumMap<Counter, Long>(Counter.class);
+
+        if (COUNTERS) {
+            for (var counter : Counter.values()) {
+                counters.put(counter, counter.sum());
+            }
+        }
+
+        return counters;
+    }
+
+    private static Map<Counter, Long> since(Map<Counter, Long> before) {
+        var counters = counters();
+        counters.replaceAll((counter, now) -> now - before.get(counter));
+        counters.values().removeIf(count -> count == 0);
+        return counters;
+    }
+
+    static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans()
+                                .stream()
+                                .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                                .sum();
+    }
+
+    record Measurement(String input, String phase, long wallNanos, long cpuNanos, long allocatedBytes, long gcs,
+                       Map<Counter, Long> counters, Object answer) {
+
+        String toJson() {
+            var json = new StringBuilder("{")
+                    .append("\"input\":").append(quote(input))
+                    .append(",\"phase\":").append(quote(phase))
+                    .append(",\"wallNanos\":").append(wallNanos)
+                    .append(",\"cpuNanos\":").append(cpuNanos)
+                    .append(",\"allocatedBytes\":").append(allocatedBytes)
+                    .append(",\"gcs\":").append(gcs);
+
+            if (!counters.isEmpty()) {
+                json.append(",\"counters\":{")
+                    .append(counters.entrySet()
+                                    .stream()
+                                    .map(e -> quote(e.getKey().name()) + ":" + e.getValue())
+                                    .collect(Collectors.joining(",")))
+                    .append('}');
+            }
+
+            return json.append(",\"answer\":").append(quote(String.valueOf(answer))).append('}').toString();
+        }
+
+        private static String quote(String s) {
+            var quoted = new StringBuilder(s.length() + 2).append('"');
+
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+
+                switch (c) {
+                    case '"' -> quoted.append("\\\"");
+                    case '\\' -> quoted.append("\\\\");
+                    case '\n' -> quoted.append("\\n");
+                    case '\r' -> quoted.append("\\r");
+                    case '\t' -> quoted.append("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            quoted.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            quoted.append(c);
+                        }
+                    }
+                }
+            }
+
+            return quoted.append('"').toString();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-22s %-7s %10.3f %10s %12s %4d  %s%s", input, phase, wallNanos / 1e6,
+                    cpuNanos < 0 ? "-" : String.format("%.3f", cpuNanos / 1e6),
+                    allocatedBytes < 0 ? "-" : String.format("%.3f", allocatedBytes / 1e6), gcs, answer,
+                    counters.isEmpty() ? "" : " " + counters);
+        }
+    }
+
+    @Name("aoc.Phase")
+    @Label("Puzzle Phase")
+    @Category("Advent of Code")
+    static final class PhaseEvent extends Event {
+        @Label("Input")
+        String input;
+
+        @Label("Phase")
+        String phase;
+
+        @Label("Allocated")
+        @DataAmount
+        long allocatedBytes;
+
+        @Label("Garbage Collections")
+        long gcs;
+    }
+}
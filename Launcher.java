@@ -0,0 +1,118 @@
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Solves a single day in a fresh JVM and reports the time from JVM start to its first answer, which for small inputs
+ * is mostly class loading, linking and interpreting. Run with an AppCDS archive trained by --train, so that those
+ * classes are mapped in already parsed and verified; --compare measures both ways in child JVMs.
+ */
+public class Launcher {
+    static final int RUNS = Integer.getInteger("launcher.runs", 10);
+
+    public static void main(String... args) throws IOException, InterruptedException, ReflectiveOperationException {
+        if (args.length == 0) {
+            System.err.println("""
+                    Usage: java -cp aoc.jar Launcher <day> [input file]
+                           java -XX:ArchiveClassesAtExit=aoc.jsa -cp aoc.jar Launcher --train
+                           java -cp aoc.jar Launcher --compare aoc.jsa <day> [input file]""");
+            System.exit(2);
+        }
+
+        switch (args[0]) {
+            case "--train" -> train();
+            case "--compare" -> compare(Path.of(args[1]), List.of(args).subList(2, args.length));
+            default -> solve(args[0], args.length > 1 ? Files.readString(Path.of(args[1])).stripTrailing() : null);
+        }
+    }
+
+    // only the day's own class is initialized: Days.all() would load every day with its embedded input
+    static void solve(String day, String input) throws ReflectiveOperationException {
+        var type = Class.forName(day);
+        var solver = (Solver<?>) type.getDeclaredField("SOLVER").get(null);
+        var text = input != null ? input : (String) type.getDeclaredField("INPUT").get(null);
+        solve(solver, text);
+    }
+
+    private static <P> void solve(Solver<P> solver, String input) {
+        var puzzle = solver.parse(input);
+        var partI = solver.partI(puzzle);
+        long firstAnswer = System.currentTimeMillis();
+        System.out.println("Part I: " + partI);
+
+        if (solver.hasPartII()) {
+            System.out.println("Part II: " + solver.partII(puzzle));
+        }
+
+        long end = System.currentTimeMillis();
+        // read only now: the management classes would otherwise be loaded before the answer
+        long start = ManagementFactory.getRuntimeMXBean().getStartTime();
+        System.out.printf("first answer after %d ms, all answers after %d ms%n", firstAnswer - start, end - start);
+    }
+
+    /**
+     * Solves every day on its first, smallest input, so that a JVM started with -XX:ArchiveClassesAtExit archives
+     * the classes, lambdas and records that any day needs.
+     */
+    static void train() {
+        for (var day : Days.all()) {
+            var input = day.inputs().getFirst();
+            System.out.println(day.name() + "." + input.name() + ": " + Batch.solve(day.solver(), input.text().get()));
+        }
+    }
+
+    /**
+     * Runs the day in child JVMs without and with the archive, alternating, and prints the median times.
+     */
+    static void compare(Path archive, List<String> day) throws IOException, InterruptedException {
+        var java = ProcessHandle.current().info().command().orElse("java");
+        var classPath = System.getProperty("java.class.path");
+        var without = new ArrayList<long[]>();
+        var with = new ArrayList<long[]>();
+
+        for (int run = 0; run < RUNS; run++) {
+            without.add(run(java, List.of("-Xshare:auto"), classPath, day));
+            with.add(run(java, List.of("-XX:SharedArchiveFile=" + archive), classPath, day));
+        }
+
+        System.out.printf("%-12s %16s %16s %16s%n", "median ms", "first answer", "all answers", "process");
+        System.out.printf("%-12s %16d %16d %16d%n", "without", median(without, 0), median(without, 1),
+                median(without, 2));
+        System.out.printf("%-12s %16d %16d %16d%n", "with", median(with, 0), median(with, 1), median(with, 2));
+    }
+
+    // first answer, all answers and process lifetime in ms
+    private static long[] run(String java, List<String> options, String classPath, List<String> day)
+            throws IOException, InterruptedException {
+        var command = new ArrayList<String>();
+        command.add(java);
+        command.addAll(options);
+        command.addAll(List.of("-Xss512m", "-cp", classPath, "Launcher"));
+        command.addAll(day);
+
+        long start = System.nanoTime();
+        var process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        var output = new String(process.getInputStream().readAllBytes());
+
+        if (process.waitFor() != 0) {
+            throw new IllegalStateException("Failed: " + String.join(" ", command) + "\n" + output);
+        }
+
+        long lifetime = (System.nanoTime() - start) / 1_000_000;
+        var times = output.lines()
+                          .filter(line -> line.startsWith("first answer after"))
+                          .findFirst()
+                          .orElseThrow(() -> new IllegalStateException("No timing in:\n" + output))
+                          .replaceAll("[^0-9]+", " ")
+                          .trim()
+                          .split(" ");
+        return new long[] {Long.parseLong(times[0]), Long.parseLong(times[1]), lifetime};
+    }
+
+    private static long median(List<long[]> runs, int column) {
+        return runs.stream().mapToLong(times -> times[column]).sorted().toArray()[runs.size() / 2];
+    }
+}
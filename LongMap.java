@@ -0,0 +1,153 @@
+import java.util.Arrays;
+
+/**
+ * A map from longs to values in open-addressing tables with linear probing, which, unlike a HashMap, boxes no key
+ * and allocates no entry per mapping. Zero marks a free slot, so the value of the key 0 is kept aside.
+ */
+final class LongMap<V> {
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private V[] values;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+    private V zeroValue;
+
+    LongMap() {
+        this(16);
+    }
+
+    LongMap(int expectedSize) {
+        allocate(capacity(expectedSize, LOAD_FACTOR));
+    }
+
+    /**
+     * The power of two table size that holds the expected number of keys below the load factor.
+     */
+    static int capacity(int expectedSize, float loadFactor) {
+        long needed = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor);
+
+        if (needed > 1 << 30) {
+            throw new IllegalArgumentException("Too many keys: " + expectedSize);
+        }
+
+        return needed <= 2 ? 2 : Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    /**
+     * Spreads the bits of the key over the low bits that pick a slot: packed coordinates differ mostly in their low
+     * bits of each half.
+     */
+    static int hash(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ h >>> 32);
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean containsKey(long key) {
+        return key == 0 ? containsZero : slot(key) >= 0;
+    }
+
+    V get(long key) {
+        return getOrDefault(key, null);
+    }
+
+    V getOrDefault(long key, V defaultValue) {
+        if (key == 0) {
+            return containsZero ? zeroValue : defaultValue;
+        }
+
+        int i = slot(key);
+        return i >= 0 ? values[i] : defaultValue;
+    }
+
+    /**
+     * Maps the key to the value and returns the value it was mapped to before, if any.
+     */
+    V put(long key, V value) {
+        if (key == 0) {
+            var previous = zeroValue;
+            zeroValue = value;
+
+            if (!containsZero) {
+                containsZero = true;
+                size++;
+            }
+
+            return previous;
+        }
+
+        int i = hash(key) & mask;
+
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                var previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+
+            i = i + 1 & mask;
+        }
+
+        keys[i] = key;
+        values[i] = value;
+
+        if (++size > (mask + 1) * LOAD_FACTOR) {
+            rehash(keys.length * 2);
+        }
+
+        return null;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        containsZero = false;
+        zeroValue = null;
+        size = 0;
+    }
+
+    private int slot(long key) {
+        for (int i = hash(key) & mask; keys[i] != 0; i = i + 1 & mask) {
+            if (keys[i] == key) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = (V[]) new Object[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(capacity);
+
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] != 0) {
+                int i = hash(oldKeys[j]) & mask;
+
+                while (keys[i] != 0) {
+                    i = i + 1 & mask;
+                }
+
+                keys[i] = oldKeys[j];
+                values[i] = oldValues[j];
+            }
+        }
+    }
+}
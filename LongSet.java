@@ -0,0 +1,135 @@
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A set of longs in one open-addressing table with linear probing, so that adding a key allocates nothing but the
+ * occasional larger table. Zero marks a free slot, so the key 0 is kept aside in a flag.
+ */
+final class LongSet {
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+    private boolean containsZero;
+
+    LongSet() {
+        this(16);
+    }
+
+    LongSet(int expectedSize) {
+        allocate(LongMap.capacity(expectedSize, LOAD_FACTOR));
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean contains(long key) {
+        if (key == 0) {
+            return containsZero;
+        }
+
+        for (int i = LongMap.hash(key) & mask; keys[i] != 0; i = i + 1 & mask) {
+            if (keys[i] == key) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Adds the key and tells whether it was not there yet.
+     */
+    boolean add(long key) {
+        if (key == 0) {
+            if (containsZero) {
+                return false;
+            }
+
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int i = LongMap.hash(key) & mask;
+
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                return false;
+            }
+
+            i = i + 1 & mask;
+        }
+
+        keys[i] = key;
+
+        if (++size > (mask + 1) * LOAD_FACTOR) {
+            rehash(keys.length * 2);
+        }
+
+        return true;
+    }
+
+    void clear() {
+        Arrays.fill(keys, 0);
+        containsZero = false;
+        size = 0;
+    }
+
+    void forEach(LongConsumer action) {
+        if (containsZero) {
+            action.accept(0);
+        }
+
+        for (long key : keys) {
+            if (key != 0) {
+                action.accept(key);
+            }
+        }
+    }
+
+    long[] toArray() {
+        var array = new long[size];
+        int n = 0;
+
+        if (containsZero) {
+            array[n++] = 0;
+        }
+
+        for (long key : keys) {
+            if (key != 0) {
+                array[n++] = key;
+            }
+        }
+
+        return array;
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private void rehash(int capacity) {
+        var old = keys;
+        allocate(capacity);
+
+        for (long key : old) {
+            if (key != 0) {
+                int i = LongMap.hash(key) & mask;
+
+                while (keys[i] != 0) {
+                    i = i + 1 & mask;
+                }
+
+                keys[i] = key;
+            }
+        }
+    }
+}
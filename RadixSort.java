@@ -0,0 +1,119 @@
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Least significant digit first radix sort of non-negative long keys, carrying a long value along with every key.
+ * Each pass sorts stably by one byte; passes stop at the highest byte any key uses and skip bytes that all keys share.
+ * Large arrays are split into chunks that count and move their own keys in parallel, into disjoint places worked out
+ * from the counts of all chunks.
+ */
+final class RadixSort {
+    static final boolean PARALLEL = Boolean.parseBoolean(System.getProperty("sort.parallel", "true"));
+
+    private static final int RADIX = 256;
+    private static final int MIN_CHUNK = 1 << 16;
+
+    private RadixSort() {}
+
+    static void sort(long[] keys, long[] values) {
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException(keys.length + " keys but " + values.length + " values");
+        }
+
+        long used = 0;
+
+        for (long key : keys) {
+            used |= key;
+        }
+
+        if (used < 0) {
+            throw new IllegalArgumentException("Negative keys cannot be radix sorted");
+        }
+
+        int n = keys.length;
+        int chunks = PARALLEL ? Math.min(4 * Runtime.getRuntime().availableProcessors(), n / MIN_CHUNK + 1) : 1;
+        var counts = new int[chunks][RADIX];
+        long[] fromKeys = keys, fromValues = values;
+        long[] toKeys = new long[n], toValues = new long[n];
+
+        for (int shift = 0; shift < Long.SIZE && used >>> shift != 0; shift += 8) {
+            int s = shift;
+            long[] sourceKeys = fromKeys;
+            each(chunks, c -> count(sourceKeys, start(c, chunks, n), start(c + 1, chunks, n), s, counts[c]));
+
+            if (!offsets(counts, n)) {
+                continue;
+            }
+
+            long[] sourceValues = fromValues, targetKeys = toKeys, targetValues = toValues;
+            each(chunks, c -> move(sourceKeys, sourceValues, targetKeys, targetValues, start(c, chunks, n),
+                    start(c + 1, chunks, n), s, counts[c]));
+
+            toKeys = fromKeys;
+            toValues = fromValues;
+            fromKeys = targetKeys;
+            fromValues = targetValues;
+        }
+
+        if (fromKeys != keys) {
+            System.arraycopy(fromKeys, 0, keys, 0, n);
+            System.arraycopy(fromValues, 0, values, 0, n);
+        }
+    }
+
+    private static void each(int chunks, IntConsumer chunk) {
+        if (chunks == 1) {
+            chunk.accept(0);
+        } else {
+            IntStream.range(0, chunks).parallel().forEach(chunk);
+        }
+    }
+
+    private static int start(int chunk, int chunks, int n) {
+        return (int) ((long) chunk * n / chunks);
+    }
+
+    private static void count(long[] keys, int from, int to, int shift, int[] counts) {
+        Arrays.fill(counts, 0);
+
+        for (int i = from; i < to; i++) {
+            counts[(int) (keys[i] >>> shift) & RADIX - 1]++;
+        }
+    }
+
+    // Turns the counts of every chunk into the index its first key of each digit goes to, digit by digit and
+    // within a digit chunk by chunk, which keeps the sort stable. False if every key has the same digit.
+    private static boolean offsets(int[][] counts, int n) {
+        int offset = 0;
+
+        for (int digit = 0; digit < RADIX; digit++) {
+            int total = 0;
+
+            for (int[] chunk : counts) {
+                total += chunk[digit];
+            }
+
+            if (total == n) {
+                return false;
+            }
+
+            for (int[] chunk : counts) {
+                int count = chunk[digit];
+                chunk[digit] = offset;
+                offset += count;
+            }
+        }
+
+        return true;
+    }
+
+    private static void move(long[] keys, long[] values, long[] toKeys, long[] toValues, int from, int to, int shift,
+                             int[] offsets) {
+        for (int i = from; i < to; i++) {
+            int index = offsets[(int) (keys[i] >>> shift) & RADIX - 1]++;
+            toKeys[index] = keys[i];
+            toValues[index] = values[i];
+        }
+    }
+}
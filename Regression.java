@@ -0,0 +1,209 @@
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Checks every phase of every day against a baseline file: the answer must be the recorded one, and the allocation
+ * per run, and with -Dregression.times=true the time per run, may exceed the recorded ones by at most a tolerance.
+ * Exits with status 1 on any failure, which fails mvn verify.
+ * With --record, measures every phase and writes the baseline instead; the answers it records are taken as correct,
+ * so record only from a tree whose answers have been checked.
+ */
+public class Regression {
+    static final Path BASELINE = Path.of(System.getProperty("regression.baseline", "regression-baseline.tsv"));
+    // time is noisy, allocation is nearly deterministic
+    static final double TIME_TOLERANCE = Double.parseDouble(System.getProperty("regression.timeTolerance", "0.5"));
+    static final double ALLOC_TOLERANCE = Double.parseDouble(System.getProperty("regression.allocTolerance", "0.1"));
+    // times hold only on the machine that recorded them, so they are checked only when asked for
+    static final boolean TIMES = Boolean.getBoolean("regression.times");
+    // with -Dregression.allocation=false (and no times) only the answers are checked, in seconds rather than minutes
+    static final boolean ALLOCATION = Boolean.parseBoolean(System.getProperty("regression.allocation", "true"));
+    static final int WARMUP_ITERATIONS = Integer.getInteger("regression.warmup", 1);
+    static final int MAX_WARMUP_ITERATIONS = Integer.getInteger("regression.maxWarmup", 20);
+    static final int MEASUREMENT_ITERATIONS = Integer.getInteger("regression.iterations", 3);
+    static final long ITERATION_NANOS = Long.getLong("regression.time", 300) * 1_000_000;
+
+    // below these, differences are measurement noise whatever the tolerance
+    static final long TIME_SLACK_NANOS = 50_000;
+    static final long ALLOC_SLACK_BYTES = 16 * 1024;
+
+    public static void main(String... args) throws InterruptedException {
+        var record = List.of(args).contains("--record");
+        var filters = List.of(args).stream().filter(arg -> !arg.startsWith("--")).toList();
+        var failed = new boolean[1];
+        // Day17 builds its graph recursively and needs a deep stack
+        var thread = new Thread(null, () -> failed[0] = !run(record, filters), "regression", 1L << 30);
+        thread.start();
+        thread.join();
+
+        if (failed[0]) {
+            System.exit(1);
+        }
+    }
+
+    record Entry(String phase, String answer, long nanosPerOp, long bytesPerOp) {
+        static Entry parse(String line) {
+            var fields = line.split("\t", -1);
+            return new Entry(fields[0], fields[1], Long.parseLong(fields[2]), Long.parseLong(fields[3]));
+        }
+
+        String format() {
+            return String.join("\t", phase, answer, String.valueOf(nanosPerOp), String.valueOf(bytesPerOp));
+        }
+    }
+
+    static boolean run(boolean record, List<String> filters) {
+        // recording only some phases keeps the others as they were
+        var baseline = record && !Files.exists(BASELINE) ? new LinkedHashMap<String, Entry>() : read();
+        var entries = new ArrayList<Entry>();
+        var failures = new ArrayList<String>();
+
+        for (var benchmark : Bench.benchmarks()) {
+            if (!matches(benchmark.name(), filters)) {
+                continue;
+            }
+
+            List<Bench.Phase> phases;
+
+            try {
+                phases = benchmark.phases();
+            } catch (RuntimeException | StackOverflowError e) {
+                failures.add(benchmark.name() + ": " + e);
+                System.out.printf("FAIL %-28s %s%n", benchmark.name(), e);
+                continue;
+            }
+
+            for (var phase : phases) {
+                try {
+                    var entry = measure(phase, record || TIMES || ALLOCATION);
+                    entries.add(entry);
+
+                    if (!record) {
+                        var problems = check(entry, baseline.get(entry.phase()));
+                        failures.addAll(problems.stream().map(p -> entry.phase() + ": " + p).toList());
+                        System.out.printf("%s %-28s %12.3f ms %14d B  %s%n", problems.isEmpty() ? "ok  " : "FAIL",
+                                entry.phase(), entry.nanosPerOp() / 1e6, entry.bytesPerOp(), String.join("; ", problems));
+                    } else {
+                        System.out.printf("%-28s %12.3f ms %14d B  %s%n", entry.phase(), entry.nanosPerOp() / 1e6,
+                                entry.bytesPerOp(), entry.answer());
+                    }
+                } catch (RuntimeException | StackOverflowError e) {
+                    failures.add(phase.name() + ": " + e);
+                    System.out.printf("FAIL %-28s %s%n", phase.name(), e);
+                }
+            }
+        }
+
+        if (record) {
+            entries.forEach(entry -> baseline.put(entry.phase(), entry));
+            write(baseline.values());
+            System.out.printf("Recorded %d phases in %s%n", entries.size(), BASELINE);
+            return failures.isEmpty();
+        }
+
+        System.out.printf("%d phases checked, %d failures%n", entries.size(), failures.size());
+        return failures.isEmpty();
+    }
+
+    private static boolean matches(String name, List<String> filters) {
+        return filters.isEmpty() || filters.stream().anyMatch(name::startsWith);
+    }
+
+    // A phase slower than a whole measurement is measured by the run that finds its answer: a single run of Day22
+    // part II takes more than a minute. Parse phases have no answer to check, as puzzles do not print themselves.
+    private static Entry measure(Bench.Phase phase, boolean budgets) {
+        var answer = new Object[1];
+        var first = Bench.measure(new Bench.Phase(phase.name(), () -> answer[0] = phase.body().get()), 0, 1, 0);
+        var text = phase.name().endsWith(".parse") ? "" : String.valueOf(answer[0]);
+
+        if (!budgets) {
+            return new Entry(phase.name(), text, 0, 0);
+        }
+
+        if (first.nanos() >= MEASUREMENT_ITERATIONS * ITERATION_NANOS) {
+            return new Entry(phase.name(), text, first.nanos(), first.allocatedBytes());
+        }
+
+        warmUp(phase);
+        var result = Bench.measure(phase, 0, MEASUREMENT_ITERATIONS, ITERATION_NANOS);
+        return new Entry(phase.name(), text, result.nanos() / result.ops(), result.allocatedBytes() / result.ops());
+    }
+
+    // A fixed warmup is too short for whichever phase runs first: the compiler is still busy with everything loaded so
+    // far. Warms up until two iterations in a row agree within 10%.
+    private static void warmUp(Bench.Phase phase) {
+        double previous = Double.MAX_VALUE;
+
+        for (int i = 0; i < MAX_WARMUP_ITERATIONS; i++) {
+            var result = Bench.measure(phase, 0, 1, ITERATION_NANOS);
+            double nanosPerOp = (double) result.nanos() / result.ops();
+
+            if (i + 1 >= WARMUP_ITERATIONS && Math.abs(nanosPerOp - previous) <= 0.1 * previous) {
+                return;
+            }
+
+            previous = nanosPerOp;
+        }
+    }
+
+    static List<String> check(Entry entry, Entry expected) {
+        if (expected == null) {
+            return List.of("not in the baseline");
+        }
+
+        var problems = new ArrayList<String>();
+
+        if (!Objects.equals(entry.answer(), expected.answer())) {
+            problems.add("answer " + entry.answer() + ", expected " + expected.answer());
+        }
+
+        long timeBudget = (long) (expected.nanosPerOp() * (1 + TIME_TOLERANCE)) + TIME_SLACK_NANOS;
+        long allocBudget = (long) (expected.bytesPerOp() * (1 + ALLOC_TOLERANCE)) + ALLOC_SLACK_BYTES;
+
+        if (TIMES && entry.nanosPerOp() > timeBudget) {
+            problems.add(String.format("%.3f ms, budget %.3f ms", entry.nanosPerOp() / 1e6, timeBudget / 1e6));
+        }
+
+        if (ALLOCATION && entry.bytesPerOp() > allocBudget) {
+            problems.add(String.format("%d B allocated, budget %d B", entry.bytesPerOp(), allocBudget));
+        }
+
+        return problems;
+    }
+
+    static Map<String, Entry> read() {
+        try {
+            var baseline = new LinkedHashMap<String, Entry>();
+
+            for (var line : Files.readAllLines(BASELINE)) {
+                if (!line.isBlank() && !line.startsWith("#")) {
+                    var entry = Entry.parse(line);
+                    baseline.put(entry.phase(), entry);
+                }
+            }
+
+            return baseline;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read the baseline; record one with --record", e);
+        }
+    }
+
+    private static void write(Collection<Entry> entries) {
+        var lines = new ArrayList<String>();
+        lines.add("# phase\tanswer\tns/op\tallocated B/op");
+        entries.forEach(entry -> lines.add(entry.format()));
+
+        try {
+            Files.write(BASELINE, lines);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Runs every day on every one of its inputs at the same time, one thread per (day, input), and prints wall time,
+ * CPU time and allocation for each phase once they have all finished.
+ */
+public class Runner {
+    // JDK 21 reports neither CPU time nor allocation for virtual threads, so this trades them for the measurements
+    static final boolean PLATFORM_THREADS = Boolean.getBoolean("runner.platform");
+
+    static final String JSON = System.getProperty("runner.json");
+
+    public static void main(String... args) throws InterruptedException, ExecutionException, IOException {
+        var filters = List.of(args);
+        var runs = new ArrayList<Future<List<Instrumentation.Measurement>>>();
+        long start = System.nanoTime();
+
+        try (var executor = Executors.newThreadPerTaskExecutor(threads())) {
+            for (var day : Days.all()) {
+                for (var input : day.inputs()) {
+                    var name = day.name() + "." + input.name();
+
+                    if (filters.isEmpty() || filters.stream().anyMatch(name::startsWith)) {
+                        runs.add(executor.submit(() -> solve(name, day.solver(), input.text().get())));
+                    }
+                }
+            }
+        }
+
+        long elapsed = System.nanoTime() - start;
+        var measurements = new ArrayList<Instrumentation.Measurement>();
+
+        for (var run : runs) {
+            measurements.addAll(run.get());
+        }
+
+        System.out.printf("%-22s %-7s %10s %10s %12s %4s  %s%n", "Input", "Phase", "wall ms", "cpu ms", "alloc MB",
+                "gc", "Answer");
+        measurements.forEach(System.out::println);
+
+        if (JSON != null) {
+            Files.write(Path.of(JSON), measurements.stream().map(Instrumentation.Measurement::toJson).toList());
+        }
+
+        System.out.printf("%d inputs in %.1f ms%n", runs.size(), elapsed / 1e6);
+    }
+
+    // Day17 recurses deeply: virtual threads need -Xss512m for it, platform threads get a large stack here
+    private static ThreadFactory threads() {
+        return PLATFORM_THREADS
+                ? Thread.ofPlatform().name("runner-", 0).stackSize(1L << 30).factory()
+                : Thread.ofVirtual().name("runner-", 0).factory();
+    }
+
+    static <P> List<Instrumentation.Measurement> solve(String name, Solver<P> solver, String input) {
+        var measurements = new ArrayList<Instrumentation.Measurement>();
+
+        try {
+            var puzzle = Instrumentation.measure(name, "parse", () -> solver.parse(input), measurements::add);
+            Instrumentation.measure(name, "partI", () -> solver.partI(puzzle), measurements::add);
+
+            if (solver.hasPartII()) {
+                Instrumentation.measure(name, "partII", () -> solver.partII(puzzle), measurements::add);
+            }
+        } catch (RuntimeException | StackOverflowError e) {
+            // the failing phase has been measured with the failure as its answer
+        }
+
+        return measurements;
+    }
+}
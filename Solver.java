@@ -0,0 +1,55 @@
+import java.util.function.Function;
+
+/**
+ * The phases every day goes through: parsing its input into a puzzle, then solving each part of that puzzle.
+ */
+interface Solver<P> {
+    P parse(String input);
+
+    Object partI(P puzzle);
+
+    Object partII(P puzzle);
+
+    default boolean hasPartII() {
+        return true;
+    }
+
+    static <P> Solver<P> of(Function<String, P> parse, Function<P, ?> partI, Function<P, ?> partII) {
+        return new Phases<>(parse, partI, partII);
+    }
+
+    /**
+     * A day with only a first part.
+     */
+    static <P> Solver<P> of(Function<String, P> parse, Function<P, ?> partI) {
+        return new Phases<>(parse, partI, null);
+    }
+
+    record Phases<P>(Function<String, P> parseFunction, Function<P, ?> partIFunction, Function<P, ?> partIIFunction)
+            implements Solver<P> {
+
+        @Override
+        public P parse(String input) {
+            return parseFunction.apply(input);
+        }
+
+        @Override
+        public Object partI(P puzzle) {
+            return partIFunction.apply(puzzle);
+        }
+
+        @Override
+        public Object partII(P puzzle) {
+            if (partIIFunction == null) {
+                throw new UnsupportedOperationException("No part II");
+            }
+
+            return partIIFunction.apply(puzzle);
+        }
+
+        @Override
+        public boolean hasPartII() {
+            return partIIFunction != null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package jmh;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The parse step and both parts of every day and input of Bench, as JMH benchmarks. JMH refuses benchmarks in the
+ * unnamed package and the days cannot be named from any other, so the phases come from Bench.phases by reflection,
+ * once per trial. main takes the usual JMH options and adds the gc profiler:
+ * <pre>
+ *     mvn -B package
+ *     java -jar target/benchmarks.jar -p input=Day16.INPUT,Day21.INPUT
+ * </pre>
+ * partII takes its inputs from a state of its own, which leaves out the days without a second part.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+// Day17 builds its graph recursively and needs a deep stack
+@Fork(value = 1, jvmArgsAppend = "-Xss512m")
+public class PhaseBenchmark {
+    // the names of Bench.benchmarks(); with -jvmArgsAppend -Dbench.scales=10 also Day22.SCALE_10 and so on
+    @State(Scope.Benchmark)
+    public static class Inputs {
+        @Param({"Day06.INPUT", "Day07.INPUT", "Day08.TEST_INPUT", "Day08.INPUT", "Day08Walks.INPUT", "Day09.TEST_INPUT",
+                "Day09.INPUT", "Day10.TEST_INPUT", "Day10.TEST_INPUT2", "Day10.INPUT", "Day11.TEST_INPUT",
+                "Day11.INPUT", "Day12.TEST_INPUT", "Day12.INPUT", "Day13.TEST_INPUT", "Day13.INPUT",
+                "Day14.TEST_INPUT", "Day14.INPUT", "Day15.TEST_INPUT", "Day15.INPUT", "Day16.TEST_INPUT",
+                "Day16.INPUT", "Day17.TEST_INPUT", "Day17.INPUT", "Day18.TEST_INPUT", "Day18.INPUT",
+                "Day19.TEST_INPUT", "Day19.INPUT", "Day20.TEST_INPUT", "Day20.TEST_INPUT2", "Day20.INPUT",
+                "Day21.TEST_INPUT", "Day21.INPUT", "Day22.TEST_INPUT", "Day22.INPUT", "Day23.TEST_INPUT",
+                "Day23.INPUT", "Day24.TEST_INPUT", "Day24.INPUT", "Day25.TEST_INPUT", "Day25.INPUT"})
+        public String input;
+
+        Supplier<?> parse;
+        Supplier<?> partI;
+
+        @Setup
+        public void setUp() throws ReflectiveOperationException {
+            var phases = phases(input);
+            parse = phases.get("parse");
+            partI = phases.get("partI");
+        }
+    }
+
+    // the inputs of the days with a second part: all but Day25
+    @State(Scope.Benchmark)
+    public static class PartIIInputs {
+        @Param({"Day06.INPUT", "Day07.INPUT", "Day08.TEST_INPUT", "Day08.INPUT", "Day08Walks.INPUT", "Day09.TEST_INPUT",
+                "Day09.INPUT", "Day10.TEST_INPUT", "Day10.TEST_INPUT2", "Day10.INPUT", "Day11.TEST_INPUT",
+                "Day11.INPUT", "Day12.TEST_INPUT", "Day12.INPUT", "Day13.TEST_INPUT", "Day13.INPUT",
+                "Day14.TEST_INPUT", "Day14.INPUT", "Day15.TEST_INPUT", "Day15.INPUT", "Day16.TEST_INPUT",
+                "Day16.INPUT", "Day17.TEST_INPUT", "Day17.INPUT", "Day18.TEST_INPUT", "Day18.INPUT",
+                "Day19.TEST_INPUT", "Day19.INPUT", "Day20.TEST_INPUT", "Day20.TEST_INPUT2", "Day20.INPUT",
+                "Day21.TEST_INPUT", "Day21.INPUT", "Day22.TEST_INPUT", "Day22.INPUT", "Day23.TEST_INPUT",
+                "Day23.INPUT", "Day24.TEST_INPUT", "Day24.INPUT"})
+        public String input;
+
+        Supplier<?> partII;
+
+        @Setup
+        public void setUp() throws ReflectiveOperationException {
+            partII = phases(input).get("partII");
+
+            if (partII == null) {
+                throw new IllegalArgumentException(input + " has no part II");
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Map<String, Supplier<?>> phases(String input) throws ReflectiveOperationException {
+        return (Map<String, Supplier<?>>) Class.forName("Bench").getMethod("phases", String.class).invoke(null, input);
+    }
+
+    @Benchmark
+    public Object parse(Inputs inputs) {
+        return inputs.parse.get();
+    }
+
+    @Benchmark
+    public Object partI(Inputs inputs) {
+        return inputs.partI.get();
+    }
+
+    @Benchmark
+    public Object partII(PartIIInputs inputs) {
+        return inputs.partII.get();
+    }
+
+    // JMH's own main, so that listing and help work too, with the gc profiler added
+    public static void main(String... args) throws Exception {
+        var arguments = new ArrayList<>(List.of(args));
+
+        if (!String.join(" ", args).matches(".*-prof gc\\b.*")) {
+            arguments.addAll(List.of("-prof", "gc"));
+        }
+
+        Main.main(arguments.toArray(String[]::new));
+    }
+}